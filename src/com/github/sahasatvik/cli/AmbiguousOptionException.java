@@ -0,0 +1,46 @@
+
+package com.github.sahasatvik.cli;
+
+/**
+ * An AmbiguousOptionException describes the nature of an error on parsing options in ArgHandler. This 
+ * Exception is thrown when abbreviated long forms are allowed, and an abbreviation is the prefix of
+ * more than one long form.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.InvalidOptionException
+ * 	@see		com.github.sahasatvik.cli.ArgHandlerException
+ * 	@since		0.3.0
+ * 
+ */
+
+public class AmbiguousOptionException extends InvalidOptionException {
+	
+	private final String[] candidates;
+
+	/**
+	 * Constructor of AmbiguousOptionException. 
+	 *
+	 * 	@param	option		the ambiguous abbreviation
+	 * 	@param	candidates	the long forms the abbreviation could stand for
+	 * 	@since	0.3.0
+	 */
+
+	public AmbiguousOptionException (String option, String[] candidates) {
+		super(option + " is ambiguous, it could be any of " + String.join(", ", candidates) + " !");
+		this.candidates = candidates.clone();
+	}
+
+
+
+	/**
+	 * This method returns the long forms the abbreviation could stand for.
+	 *
+	 * 	@return			the candidate long forms
+	 * 	@since	0.3.0
+	 */
+
+	public String[] getCandidates () {
+		return candidates.clone();
+	}
+}
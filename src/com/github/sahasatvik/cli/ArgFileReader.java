@@ -0,0 +1,91 @@
+
+package com.github.sahasatvik.cli;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class reads the characters of an argument file for a Tokenizer. The file is mapped into
+ * memory rather than read into the heap, and decoded as UTF-8 a small block at a time, so files
+ * of any size are read in constant memory. Files larger than a mapping window are mapped one 
+ * window at a time.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.ArgumentStream
+ * 	@since		0.3.0
+ */
+
+final class ArgFileReader implements Tokenizer.Source, AutoCloseable {
+
+	private static final long WINDOW = 1L << 30;
+
+	private final FileChannel channel;
+	private final long size;
+	private final CharsetDecoder decoder;
+	private final CharBuffer chars;
+
+	private ByteBuffer bytes;
+	private long windowStart;
+	private boolean done;
+
+	ArgFileReader (Path path) throws IOException {
+		channel = FileChannel.open(path, StandardOpenOption.READ);
+		size = channel.size();
+		decoder = StandardCharsets.UTF_8.newDecoder();
+		chars = CharBuffer.allocate(8192);
+		chars.flip();
+		map(0);
+	}
+
+	private void map (long start) throws IOException {
+		windowStart = start;
+		bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW, size - start));
+	}
+
+	@Override
+	public int read () throws IOException {
+		if (!chars.hasRemaining() && !refill()) {
+			return -1;
+		}
+		return chars.get();
+	}
+
+	private boolean refill () throws IOException {
+		if (done) {
+			return false;
+		}
+		chars.clear();
+		while (true) {
+			boolean last = windowStart + bytes.limit() == size;
+			CoderResult r = decoder.decode(bytes, chars, last);
+			if (r.isError()) {
+				r.throwException();
+			}
+			if (chars.position() > 0) {
+				break;
+			}
+			if (last) {
+				decoder.flush(chars);
+				done = true;
+				break;
+			}
+			map(windowStart + bytes.position());
+		}
+		chars.flip();
+		return chars.hasRemaining();
+	}
+
+	@Override
+	public void close () throws IOException {
+		bytes = null;
+		channel.close();
+	}
+} 
@@ -1,8 +1,6 @@
 
 package	com.github.sahasatvik.cli;
 
-import com.github.sahasatvik.struct.*;
-
 /**
  * This class parses command line arguments, and enables simple retrieval of options and arguments. 
  * Any class which needs to use this library must create an ArgHandler object, and pass to it an 
@@ -92,14 +90,18 @@ import com.github.sahasatvik.struct.*;
 
 public class ArgHandler {
 	
-	private Queue<Option<?>> options;
-	private Queue<Argument> arguments;
+	private Option<?>[] options;
+	private CommandSpec spec;
+	private ParseResult result;
 
 	private String[] rawArgs;
+	private TokenTable tokens;
+	private boolean allowAbbreviations;
 	
 	/**
 	 * This is the only constructor of ArgHandler. Here, the array of arguments must be passed to 
 	 * ArgHandler. The arguments will be processed, and can be retrieved as if they were in a Queue.
+	 * A lone '-', and every argument after '--', is treated as an argument, even if it starts with '-'.
 	 *
 	 * 	@param	args			the array of arguments to be processed
 	 * 	@since	0.1.0
@@ -113,10 +115,29 @@ public class ArgHandler {
 			rawArgs[i] = args[i];
 		}
 
-		options = new Queue<Option<?>>();
-		arguments = new Queue<Argument>();
-		
-		processArgs();
+		options = new Option<?>[0];
+		spec = new CommandSpec();
+		result = spec.newResult();
+		tokens = new TokenTable(rawArgs);
+		tokens.pushArguments(result.arguments);
+	}
+
+
+
+	/**
+	 * This method sets whether long forms of Options may be abbreviated, eg. '--verb' for '--verbose',
+	 * as long as the abbreviation is not shared by several long forms. It must be called before 
+	 * {@link #useOptions(Option[])}.
+	 *
+	 * 	@param	allowAbbreviations	true if long forms may be abbreviated
+	 * 	@return				this ArgHandler
+	 * 	@see	com.github.sahasatvik.cli.CommandSpec#CommandSpec(boolean, Option[])
+	 * 	@since	0.3.0
+	 */
+
+	public ArgHandler allowAbbreviations (boolean allowAbbreviations) {
+		this.allowAbbreviations = allowAbbreviations;
+		return this;
 	}
 
 
@@ -126,6 +147,7 @@ public class ArgHandler {
 	 * of arguments passed earlier. Option objects created earlier must be passed, which will be midified
 	 * dynamically during processing. Only these options will be considered to be valid while processing.
 	 * The presence of any option other than those passed here will trigger a OptionException.
+	 * The options are compiled into a {@link CommandSpec}, so each argument is matched in constant time.
 	 *
 	 * 	@param	options			the array of valid Options to be used
 	 * 	@return				this ArgHandler
@@ -135,43 +157,23 @@ public class ArgHandler {
 	 */
 	
 	public ArgHandler useOptions (Option<?> ... options) throws OptionException {
-		for (Option<?> f : options) {
-			this.options.push(f);
-		}
-		for (String s : rawArgs) {
-			processOptions(s);
-		}
+		Option<?>[] all = new Option<?>[this.options.length + options.length];
+		System.arraycopy(this.options, 0, all, 0, this.options.length);
+		System.arraycopy(options, 0, all, this.options.length, options.length);
+		this.options = all;
+		spec = new CommandSpec(allowAbbreviations, all);
+		tokens.resolve(spec);
+		ParseResult r = spec.newResult();
+		spec.applyOptions(tokens, r);
+		r.applyTo();
 		return this;
 	}
 
-	private void processOptions (String s) throws OptionException {
-		Option f;
-		if (s.charAt(0) == '-') {
-			if (s.charAt(1) == '-') {
-				f = getOption(s);
-				f.setState(true);
-				f.parseValue(Option.extractValue(s));
-			} else {
-				for (int i = 1; i < s.length(); i++) {
-					f = getOption(s.charAt(i));
-					f.setState(true);
-					if ((i + 1) < s.length()) {
-						if (s.charAt(i+1) == '=') {
-							f.parseValue(f.extractValue(s));
-							i = s.length();
-							break;
-						}
-					}
-				}
-			}
-		}
-	}
-
 
 
 	/**
 	 * This method returns the Option whose short or long form matches the String passed to 
-	 * it. Note that the Options collected by useOptions(Options[]) are used here.
+	 * it, in constant time. Note that the Options collected by useOptions(Options[]) are used here.
 	 *
 	 * 	@param	s			the String to be compared with the Options
 	 * 	@return				the Option matching 's', if it exists
@@ -181,20 +183,11 @@ public class ArgHandler {
 	 */
 
 	public Option<?> getOption (String s) throws InvalidOptionException {
-		int optionCount = options.getSize();
-		Option<?> f;
-		for (int i = 0; i < optionCount; i++) {
-			try {
-				f = options.getItemAt(i);
-				if (f.matches(s)) {
-					return f;
-				}
-			} catch (ListIndexOutOfBoundsException e) {
-				System.out.println(e);
-			}
-
+		Option<?> f = spec.getOption(s);
+		if (f == null) {
+			throw new InvalidOptionException("Option " + s + " not valid !");
 		}
-		throw new InvalidOptionException("Option " + s + " not valid !");
+		return f;
 	}
 
 
@@ -210,22 +203,11 @@ public class ArgHandler {
 	 */
 
 	public Option<?> getOption (char c) throws InvalidOptionException {
-		return getOption("-" + c);
-	}
-
-	private void processArgs () {
-		for (String arg : rawArgs) {
-			if (isArg(arg)) {
-				arguments.push(new Argument(arg));
-			}
-		}
-	}
-
-	private boolean isArg (String arg) {
-		if (arg.charAt(0) == '-') {
-			return false;
+		Option<?> f = spec.getOption(c);
+		if (f == null) {
+			throw new InvalidOptionException("Option -" + c + " not valid !");
 		}
-		return true;
+		return f;
 	}
 
 
@@ -238,7 +220,7 @@ public class ArgHandler {
 	 */
 
 	public int argCount () {
-		return arguments.getSize();
+		return result.argCount();
 	}
 
 
@@ -251,7 +233,7 @@ public class ArgHandler {
 	 */
 
 	public boolean hasMoreArgs () {
-		return (argCount() > 0);
+		return result.hasMoreArgs();
 	}
 
 
@@ -265,11 +247,7 @@ public class ArgHandler {
 	 */
 
 	public String next () throws NoRemainingArgumentsException {
-		try {
-			return arguments.pop().getValue();
-		} catch (ListException e) {
-			throw new NoRemainingArgumentsException();
-		}
+		return result.next();
 	}
 
 
@@ -290,22 +268,7 @@ public class ArgHandler {
 	 */
 	
 	public <T> T next (Class<T> clazz) throws NoRemainingArgumentsException, NoArgumentOfRequiredTypeFoundException {
-		if (!hasMoreArgs()) {
-			throw new NoRemainingArgumentsException();
-		}
-		int argCount = argCount();
-		int i = 0;
-		while (i < argCount) {	
-			try {
-				Argument a = arguments.getItemAt(i);
-				T value = a.<T>getValue(clazz);
-				arguments.popItemAt(i);
-				return value;
-			} catch (Exception e) {
-				i++;
-			}
-		}
-		throw new NoArgumentOfRequiredTypeFoundException(clazz);
+		return result.next(clazz);
 	}
 
 
@@ -327,21 +290,6 @@ public class ArgHandler {
 	 */
 
 	public <T> T next (Parser<T> parser) throws NoRemainingArgumentsException, NoArgumentOfRequiredTypeFoundException {
-		if (!hasMoreArgs()) {
-			throw new NoRemainingArgumentsException();
-		}
-		int argCount = argCount();
-		int i = 0;
-		while (i < argCount) {	
-			try {
-				Argument a = arguments.getItemAt(i);
-				T value = a.<T>getValue(parser);
-				arguments.popItemAt(i);
-				return value;
-			} catch (Exception e) {
-				i++;
-			}
-		}
-		throw new NoArgumentOfRequiredTypeFoundException(parser);	
+		return result.next(parser);
 	}
 } 
@@ -0,0 +1,183 @@
+
+package com.github.sahasatvik.cli;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * This class parses arguments one at a time, as they are pulled from it, instead of collecting
+ * all of them into a queue up front. It is obtained from {@link CommandSpec#stream(String[])}.
+ * <p>
+ * An argument of the form '@file' is a response file : it is replaced by the arguments read from
+ * the file, which are separated by whitespace. As in a shell, text within single quotes is taken
+ * literally, text within double quotes may contain escaped '"' and '\' characters, and a '\' 
+ * outside quotes escapes the character after it. The file is memory-mapped, and split into 
+ * arguments only as they are pulled, so it may hold any number of arguments, well beyond the 
+ * limits most systems place on command lines. An argument starting with '@@' is not a response 
+ * file, and is passed on with the first '@' removed. Response files are not expanded inside 
+ * other response files.
+ * <p>
+ * Options are applied to the stream's {@link ParseResult} as soon as they are reached, while
+ * every other argument is returned by {@link #next()}, as is every argument after '--'. An 
+ * ArgumentStream should be closed once it is no longer needed, to release any response file 
+ * being read. For example :
+ * <pre>{@code
+ *	try (ArgumentStream in = spec.stream(args)) {
+ *		String path;
+ *		while ((path = in.next()) != null) {
+ *			process(path);
+ *		}
+ *		boolean verbose = in.getResult().getState(verboseOption);
+ *	}
+ * }</pre>
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.CommandSpec
+ * 	@since		0.3.0
+ */
+
+public final class ArgumentStream implements AutoCloseable {
+
+	private final CommandSpec spec;
+	private final ParseResult result;
+	private final String[] args;
+	private final Tokenizer tokenizer;
+
+	private int index;
+	private boolean endOfOptions;
+	private ArgFileReader file;
+	private String fileName;
+
+	ArgumentStream (CommandSpec spec, String[] args) {
+		this.spec = spec;
+		this.result = spec.newResult();
+		this.args = args;
+		this.tokenizer = new Tokenizer();
+	}
+
+
+
+	/**
+	 * This method returns the next argument which is not an Option, applying any Options reached
+	 * on the way to the ParseResult.
+	 *
+	 * 	@return				the next argument, or null if there are none left
+	 * 	@throws	com.github.sahasatvik.cli.OptionException			thrown if an invalid Option is found, or its value cannot be parsed
+	 * 	@throws	com.github.sahasatvik.cli.MalformedArgumentException	thrown if a response file cannot be read or split
+	 * 	@since	0.3.0
+	 */
+
+	public String next () throws OptionException, MalformedArgumentException {
+		String s;
+		while ((s = nextToken()) != null) {
+			if (!endOfOptions && s.equals("--")) {
+				endOfOptions = true;
+			} else if (endOfOptions || !spec.parseOption(s, result)) {
+				return s;
+			}
+		}
+		return null;
+	}
+
+
+
+	/**
+	 * This method returns the ParseResult holding the states and values of the Options reached so 
+	 * far. It is complete once {@link #next()} has returned null.
+	 *
+	 * 	@return				the result of parsing the Options
+	 * 	@since	0.3.0
+	 */
+
+	public ParseResult getResult () {
+		return result;
+	}
+
+
+
+	/**
+	 * This method closes the response file being read, if any. Arguments which have not been pulled
+	 * yet are discarded.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	@Override
+	public void close () {
+		closeFile();
+		index = args.length;
+	}
+
+
+
+	/**
+	 * This method replaces each response file in an array of arguments with the arguments it 
+	 * contains, and returns the result. Unlike an ArgumentStream, this holds all of the arguments 
+	 * in memory, and is meant for passing response files to an ArgHandler.
+	 *
+	 * 	@param	args			the array of arguments to be expanded
+	 * 	@return				the arguments, with response files expanded
+	 * 	@throws	com.github.sahasatvik.cli.MalformedArgumentException	thrown if a response file cannot be read or split
+	 * 	@since	0.3.0
+	 */
+
+	public static String[] expand (String ... args) throws MalformedArgumentException {
+		ArrayList<String> expanded = new ArrayList<>(args.length);
+		try (ArgumentStream in = new ArgumentStream(new CommandSpec(), args.clone())) {
+			String s;
+			while ((s = in.nextToken()) != null) {
+				expanded.add(s);
+			}
+		}
+		return expanded.toArray(new String[0]);
+	}
+
+	private String nextToken () throws MalformedArgumentException {
+		while (true) {
+			if (file != null) {
+				try {
+					String s = tokenizer.next(file);
+					if (s != null) {
+						return s;
+					}
+				} catch (IOException e) {
+					closeFile();
+					throw new MalformedArgumentException("Cannot read argument file " + fileName + " : " + e.getMessage());
+				} catch (MalformedArgumentException e) {
+					closeFile();
+					throw e;
+				}
+				closeFile();
+			}
+			if (index >= args.length) {
+				return null;
+			}
+			String s = args[index++];
+			if (s.startsWith("@@")) {
+				return s.substring(1);
+			} else if (s.length() > 1 && s.charAt(0) == '@') {
+				fileName = s.substring(1);
+				try {
+					file = new ArgFileReader(Path.of(fileName));
+				} catch (IOException | InvalidPathException e) {
+					throw new MalformedArgumentException("Cannot read argument file " + fileName + " : " + e.getMessage());
+				}
+			} else {
+				return s;
+			}
+		}
+	}
+
+	private void closeFile () {
+		if (file != null) {
+			try {
+				file.close();
+			} catch (IOException e) {
+			}
+			file = null;
+		}
+	}
+} 
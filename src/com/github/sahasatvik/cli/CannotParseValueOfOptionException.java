@@ -24,7 +24,7 @@ public class CannotParseValueOfOptionException extends OptionException {
 	 */
 
 	public CannotParseValueOfOptionException (Option<?> option) {
-		super("Option " + option.longForm + " cannot carry a value !");
+		this(option.longForm);
 	}
 
 	/**
@@ -37,7 +37,51 @@ public class CannotParseValueOfOptionException extends OptionException {
 	 */
 
 	public CannotParseValueOfOptionException (Option<?> option, String value) {
-		super("Option " + option.longForm + " cannot carry the value " + value + ", as it is of the wrong type!");
+		this(option.longForm, value);
+	}
+
+	/**
+	 * Constructor of CannotParseValueOfOptionException, to be used by generated parsers when a Option 
+	 * cannot carry a value.
+	 *
+	 * 	@param	longForm	the long form of the option in question
+	 * 	@since	0.3.0
+	 */
+
+	public CannotParseValueOfOptionException (String longForm) {
+		super("Option " + longForm + " cannot carry a value !");
+	}
+
+	/**
+	 * Constructor of CannotParseValueOfOptionException, to be used by generated parsers when a Option 
+	 * has been given a value of the wrong type.
+	 *
+	 * 	@param	longForm	the long form of the option in question
+	 * 	@param	value		the value of wrong type
+	 * 	@since	0.3.0
+	 */
+
+	public CannotParseValueOfOptionException (String longForm, String value) {
+		super("Option " + longForm + " cannot carry the value " + value + ", as it is of the wrong type!");
+	}
+
+	/**
+	 * Constructor of CannotParseValueOfOptionException, to be used by subclasses when a Option has been 
+	 * given a value it does not accept for another reason.
+	 *
+	 * 	@param	longForm	the long form of the option in question
+	 * 	@param	value		the value which is not accepted
+	 * 	@param	reason		why the value is not accepted, eg. 'it is negative'
+	 * 	@since	0.3.0
+	 */
+
+	protected CannotParseValueOfOptionException (String longForm, String value, String reason) {
+		super("Option " + longForm + " cannot carry the value " + value + ", as " + reason + " !");
+	}
+
+	/** Used when a Option which parses its own values is given a Parser */
+	CannotParseValueOfOptionException (Option<?> option, Parser<?> parser) {
+		super("Option " + option.longForm + " parses its own values, and cannot use a Parser !");
 	}
 
 }
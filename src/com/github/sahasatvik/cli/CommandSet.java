@@ -0,0 +1,287 @@
+package com.github.sahasatvik.cli;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * This class dispatches arguments to subcommands, as in 'tool [global options] command [options] [arguments]'.
+ * Each subcommand is added with a name and a factory for its CommandSpec, which is only called the
+ * first time the subcommand is selected, and then remembered. A program with many subcommands
+ * therefore only creates the Options, and loads the classes, of the subcommand actually invoked.
+ * <p>
+ * To keep a subcommand's classes from being loaded early, its factory should be a lambda expression,
+ * eg. {@code () -> Build.spec()}, rather than a method reference such as {@code Build::spec}, which 
+ * loads the class it refers to as soon as it is created. For example :
+ * <pre>{@code
+ *	CommandSet tool = new CommandSet(new CommandSpec(verbose))
+ *				.add("build", () -> Build.spec())
+ *				.add("test", () -> Test.spec());
+ *
+ *	CommandSet.Invocation call = tool.parse(args);
+ *	boolean loud = call.getGlobalResult().getState(verbose);
+ *	switch (call.getName()) {
+ *		case "build" :	Build.run(call.getResult());	break;
+ *		case "test" :	Test.run(call.getResult());	break;
+ *	}
+ * }</pre>
+ * Global options must come before the name of the subcommand, and everything after it is parsed by
+ * the subcommand's CommandSpec. Subcommands must all be added before parsing starts, after which a
+ * CommandSet may be used by several threads at once.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.CommandSpec
+ * 	@since		0.3.0
+ */
+
+public final class CommandSet {
+
+	/**
+	 * This interface describes a factory creating the CommandSpec of a subcommand. Unlike a Supplier,
+	 * it may throw the OptionExceptions thrown while creating Options.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	@FunctionalInterface
+	public interface Factory {
+
+		/**
+		 * This method creates the CommandSpec of a subcommand.
+		 *
+		 * 	@return			the CommandSpec of the subcommand
+		 * 	@throws	com.github.sahasatvik.cli.OptionException	thrown if an Option cannot be created
+		 * 	@since	0.3.0
+		 */
+
+		public CommandSpec create () throws OptionException;
+	}
+
+	private final CommandSpec global;
+	private final HashMap<String, Command> commands = new HashMap<>();
+
+	/**
+	 * This constructor creates a CommandSet without global options.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	public CommandSet () {
+		this(new CommandSpec());
+	}
+
+
+
+	/**
+	 * This constructor creates a CommandSet, whose global options are described by the CommandSpec
+	 * passed to it.
+	 *
+	 * 	@param	global			the CommandSpec of the global options
+	 * 	@since	0.3.0
+	 */
+
+	public CommandSet (CommandSpec global) {
+		this.global = global;
+	}
+
+
+
+	/**
+	 * This method adds a subcommand. The factory is not called until the subcommand is first selected.
+	 *
+	 * 	@param	name			the name of the subcommand
+	 * 	@param	factory			the factory creating the CommandSpec of the subcommand
+	 * 	@return				this CommandSet
+	 * 	@throws	IllegalArgumentException	thrown if the name is empty, starts with '-', or has already been added
+	 * 	@since	0.3.0
+	 */
+
+	public CommandSet add (String name, Factory factory) {
+		if (name.length() == 0 || name.charAt(0) == '-') {
+			throw new IllegalArgumentException("The name of a command cannot be empty, or start with '-' !");
+		}
+		if (commands.putIfAbsent(name, new Command(name, factory)) != null) {
+			throw new IllegalArgumentException("Command " + name + " has already been added !");
+		}
+		return this;
+	}
+
+
+
+	/**
+	 * This method parses the global options, the name of the subcommand, and the arguments of the 
+	 * subcommand, in that order. A '--' among the global options ends them, and the argument after
+	 * it is taken as the name of the subcommand. Only the CommandSpec of the selected subcommand 
+	 * is created.
+	 *
+	 * 	@param	args			the array of arguments to be parsed
+	 * 	@return				the selected subcommand, and the results of parsing the arguments
+	 * 	@throws	com.github.sahasatvik.cli.OptionException			thrown if an invalid Option is found, or its value cannot be parsed, or the factory throws it
+	 * 	@throws	com.github.sahasatvik.cli.NoRemainingArgumentsException	thrown if no subcommand is named
+	 * 	@throws	com.github.sahasatvik.cli.UnknownCommandException		thrown if the named subcommand has not been added
+	 * 	@since	0.3.0
+	 */
+
+	public Invocation parse (String ... args) throws OptionException, NoRemainingArgumentsException, UnknownCommandException {
+		ParseResult globalResult = global.newResult();
+		int i = 0;
+		while (i < args.length) {
+			if (args[i].equals("--")) {
+				i++;
+				break;
+			} else if (!global.parseOption(args[i], globalResult)) {
+				break;
+			}
+			i++;
+		}
+		if (i == args.length) {
+			throw new NoRemainingArgumentsException();
+		}
+		Command command = commands.get(args[i]);
+		if (command == null) {
+			throw new UnknownCommandException(args[i]);
+		}
+		ParseResult result = command.spec().parse(Arrays.copyOfRange(args, i + 1, args.length));
+		return new Invocation(command.name, globalResult, result);
+	}
+
+
+
+	/**
+	 * This method returns the CommandSpec of a subcommand, creating it if it has not been selected yet.
+	 *
+	 * 	@param	name			the name of the subcommand
+	 * 	@return				the CommandSpec of the subcommand, or null if it has not been added
+	 * 	@throws	com.github.sahasatvik.cli.OptionException	thrown if the factory of the subcommand throws it
+	 * 	@since	0.3.0
+	 */
+
+	public CommandSpec getSpec (String name) throws OptionException {
+		Command command = commands.get(name);
+		return (command == null)? null : command.spec();
+	}
+
+
+
+	/**
+	 * This method returns whether the CommandSpec of a subcommand has been created.
+	 *
+	 * 	@param	name			the name of the subcommand
+	 * 	@return				true if the subcommand has been added, and its CommandSpec created
+	 * 	@since	0.3.0
+	 */
+
+	public boolean isLoaded (String name) {
+		Command command = commands.get(name);
+		return command != null && command.spec != null;
+	}
+
+
+
+	/**
+	 * This method returns the names of the subcommands, in alphabetical order, eg. to list them in a 
+	 * help message. No CommandSpec is created.
+	 *
+	 * 	@return				the names of the subcommands
+	 * 	@since	0.3.0
+	 */
+
+	public String[] getNames () {
+		String[] names = commands.keySet().toArray(new String[0]);
+		Arrays.sort(names);
+		return names;
+	}
+
+	/** A subcommand, whose CommandSpec is created at most once */
+	private static final class Command {
+
+		final String name;
+		private final Factory factory;
+		volatile CommandSpec spec;
+
+		Command (String name, Factory factory) {
+			this.name = name;
+			this.factory = factory;
+		}
+
+		CommandSpec spec () throws OptionException {
+			CommandSpec s = spec;
+			if (s == null) {
+				synchronized (this) {
+					s = spec;
+					if (s == null) {
+						s = factory.create();
+						if (s == null) {
+							throw new IllegalStateException("The factory of command " + name + " returned null !");
+						}
+						spec = s;
+					}
+				}
+			}
+			return s;
+		}
+	}
+
+
+
+	/**
+	 * This class holds the subcommand selected by the arguments, and the results of parsing the global
+	 * options and the arguments of the subcommand.
+	 *
+	 * 	@author		Satvik Saha
+	 * 	@version	0.3.0, 19/10/2026
+	 * 	@since		0.3.0
+	 */
+
+	public static final class Invocation {
+
+		private final String name;
+		private final ParseResult globalResult;
+		private final ParseResult result;
+
+		Invocation (String name, ParseResult globalResult, ParseResult result) {
+			this.name = name;
+			this.globalResult = globalResult;
+			this.result = result;
+		}
+
+
+
+		/**
+		 * This method returns the name of the selected subcommand.
+		 *
+		 * 	@return				the name of the subcommand
+		 * 	@since	0.3.0
+		 */
+
+		public String getName () {
+			return name;
+		}
+
+
+
+		/**
+		 * This method returns the result of parsing the global options.
+		 *
+		 * 	@return				the result of parsing the global options
+		 * 	@since	0.3.0
+		 */
+
+		public ParseResult getGlobalResult () {
+			return globalResult;
+		}
+
+
+
+		/**
+		 * This method returns the result of parsing the arguments after the name of the subcommand.
+		 *
+		 * 	@return				the result of parsing the subcommand's arguments
+		 * 	@since	0.3.0
+		 */
+
+		public ParseResult getResult () {
+			return result;
+		}
+	}
+} 
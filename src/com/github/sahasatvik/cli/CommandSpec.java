@@ -0,0 +1,355 @@
+
+package com.github.sahasatvik.cli;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * This class describes a compiled, immutable set of Options, which can be used to parse any
+ * number of argument arrays. While an ArgHandler stores the results of parsing in the Option 
+ * objects themselves, a CommandSpec leaves them untouched, and returns the results of each 
+ * parse in a separate {@link ParseResult}. A CommandSpec can therefore be built once, and then
+ * shared by many threads parsing concurrently, without any locking.
+ * <p>
+ * The configuration of each Option (its forms, whether it can carry a value, its value type 
+ * or Parser, and its default value) is copied when the CommandSpec is built, so later changes
+ * to the Option objects do not affect it. The Option objects are only used as keys to look up
+ * results.
+ * <p>
+ * A CommandSpec can also allow long forms to be abbreviated, as in GNU programs : '--verb' is then
+ * accepted for '--verbose', as long as no other long form starts with '--verb'. Abbreviations
+ * are resolved by a binary search over the sorted long forms, and an abbreviation shared by 
+ * several long forms triggers an AmbiguousOptionException listing them. For example :
+ * <pre>{@code
+ *	Option help = new Option("-h", "--help");
+ *	Option<Integer> max = new Option<Integer>("-M", "--max").canHaveValue(true)
+ *							    .setValueType(Integer.class)
+ *							    .setDefaultValue(10);
+ *	CommandSpec spec = new CommandSpec(help, max);		// Built once
+ *
+ *	.
+ *	.
+ *	.
+ *
+ *	ParseResult result = spec.parse(args);			// On any thread
+ *	boolean needsHelp = result.getState(help);
+ *	Integer maxVal = result.getValue(max);
+ *	String firstArg = result.next();
+ * }</pre>
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.ParseResult
+ * 	@see		com.github.sahasatvik.cli.ArgHandler
+ * 	@since		0.3.0
+ */
+
+public final class CommandSpec {
+
+	private final Option<?>[] options;
+	private final boolean[] canHaveValue;
+	private final Parser<?>[] converters;
+	private final Object[] defaults;
+	private final PrimitiveOption.Bits[] bits;
+	private final long[] defaultBits;
+	private final boolean[] hasDefaultBits;
+	private final boolean hasPrimitives;
+	private final MultiOption.Accumulator[] accumulators;
+
+	private final OptionIndex index;
+	private final Map<Option<?>, Integer> slots;
+	private final boolean allowAbbreviations;
+
+
+
+	/**
+	 * This constructor compiles the Options passed to it into a CommandSpec. If several Options 
+	 * share a form, the one passed first is used.
+	 *
+	 * 	@param	options			the valid Options
+	 * 	@since	0.3.0
+	 */
+
+	public CommandSpec (Option<?> ... options) {
+		this(false, options);
+	}
+
+
+
+	/**
+	 * This constructor compiles the Options passed to it into a CommandSpec, which may also accept 
+	 * unambiguous abbreviations of long forms. If several Options share a form, the one passed 
+	 * first is used.
+	 *
+	 * 	@param	allowAbbreviations	true if long forms may be abbreviated
+	 * 	@param	options			the valid Options
+	 * 	@since	0.3.0
+	 */
+
+	public CommandSpec (boolean allowAbbreviations, Option<?> ... options) {
+		int n = options.length;
+		this.allowAbbreviations = allowAbbreviations;
+		this.options = options.clone();
+		this.canHaveValue = new boolean[n];
+		this.converters = new Parser<?>[n];
+		this.defaults = new Object[n];
+		this.bits = new PrimitiveOption.Bits[n];
+		this.defaultBits = new long[n];
+		this.hasDefaultBits = new boolean[n];
+		this.accumulators = new MultiOption.Accumulator[n];
+		this.index = new OptionIndex();
+		this.slots = new IdentityHashMap<>();
+		boolean hasPrimitives = false;
+		for (int i = 0; i < n; i++) {
+			Option<?> f = options[i];
+			canHaveValue[i] = f.canHaveValue;
+			converters[i] = f.converter();
+			defaults[i] = f.value;
+			if (f instanceof PrimitiveOption) {
+				PrimitiveOption<?> p = (PrimitiveOption<?>) f;
+				bits[i] = p.bits();
+				if (p.hasBits()) {
+					defaultBits[i] = p.rawBits();
+					hasDefaultBits[i] = true;
+					defaults[i] = p.box(defaultBits[i]);
+				}
+				hasPrimitives = true;
+			} else if (f instanceof MultiOption) {
+				accumulators[i] = ((MultiOption<?>) f).accumulator();
+			}
+			index.add(f, i);
+			slots.putIfAbsent(f, i);
+		}
+		this.hasPrimitives = hasPrimitives;
+		if (allowAbbreviations) {
+			index.sortLongForms();
+		}
+	}
+
+
+
+	/**
+	 * This method parses an array of arguments, and returns the states and values of the Options
+	 * and the remaining arguments in a new ParseResult. The arguments are classified in a single pass,
+	 * and a lone '-' is an argument, as is every argument after '--', even if it starts with '-'. This
+	 * CommandSpec is not modified, so this method may be called from several threads at once.
+	 *
+	 * 	@param	args			the array of arguments to be parsed
+	 * 	@return				the result of parsing the arguments
+	 * 	@throws	com.github.sahasatvik.cli.InvalidOptionException	thrown if an invalid Option is found
+	 * 	@throws	com.github.sahasatvik.cli.OptionException		thrown if a value assigned to an Option cannot be parsed properly
+	 * 	@since	0.3.0
+	 */
+
+	public ParseResult parse (String ... args) throws OptionException {
+		TokenTable t = new TokenTable(args);
+		t.resolve(this);
+		ParseResult r = new ParseResult(this);
+		applyOptions(t, r);
+		t.pushArguments(r.arguments);
+		return r;
+	}
+
+	/**
+	 * This method returns an ArgumentStream, which parses the arguments passed to it one at a time,
+	 * as its arguments are pulled. Arguments of the form '@file' are replaced by the arguments 
+	 * read from the file, which is memory-mapped and split lazily. Options are applied to the 
+	 * stream's ParseResult as they are reached, and arguments are returned instead of being queued,
+	 * so any number of arguments can be processed in constant memory.
+	 *
+	 * 	@param	args			the array of arguments to be parsed
+	 * 	@return				a stream over the arguments
+	 * 	@see	com.github.sahasatvik.cli.ArgumentStream
+	 * 	@since	0.3.0
+	 */
+
+	public ArgumentStream stream (String ... args) {
+		return new ArgumentStream(this, args.clone());
+	}
+
+
+
+	/** Returns an empty ParseResult for this CommandSpec */
+	ParseResult newResult () {
+		return new ParseResult(this);
+	}
+
+	/** Applies the options in the table, whose slots have been resolved against this CommandSpec, to the result */
+	void applyOptions (TokenTable t, ParseResult r) throws CannotParseValueOfOptionException {
+		for (int i = 0; i < t.size(); i++) {
+			int slot = t.slot(i);
+			if (slot != -1) {
+				r.states[slot] = true;
+				if (t.valueStart(i) != -1) {
+					setValue(r, slot, t.arg(i), t.valueStart(i));
+				}
+			}
+		}
+		r.tokens = t;
+	}
+
+	/** Applies s to the result if it is an option, and returns false if it is an argument */
+	boolean parseOption (String s, ParseResult r) throws OptionException {
+		if (s.length() < 2 || s.charAt(0) != '-') {
+			return false;
+		}
+		if (s.charAt(1) == '-') {
+			int end = s.indexOf('=');
+			int slot = resolve(s, (end == -1)? s.length() : end);
+			if (slot == -1) {
+				throw new InvalidOptionException("Option " + s + " not valid !");
+			}
+			r.states[slot] = true;
+			if (end != -1 && end + 1 < s.length()) {
+				setValue(r, slot, s, end + 1);
+			}
+		} else {
+			for (int i = 1; i < s.length(); i++) {
+				char c = s.charAt(i);
+				int slot = resolve(c);
+				if (slot == -1) {
+					throw new InvalidOptionException("Option -" + c + " not valid !");
+				}
+				r.states[slot] = true;
+				if ((i + 1) < s.length() && s.charAt(i + 1) == '=') {
+					if (i + 2 < s.length()) {
+						setValue(r, slot, s, i + 2);
+					}
+					break;
+				}
+			}
+		}
+		return true;
+	}
+
+	/** Parses the value of s, which begins at start and is not empty, into the slot */
+	private void setValue (ParseResult r, int slot, String s, int start) throws CannotParseValueOfOptionException {
+		if (!canHaveValue[slot]) {
+			throw new CannotParseValueOfOptionException(options[slot]);
+		}
+		try {
+			if (bits[slot] != null) {
+				r.setBits(slot, bits[slot].parse(s, start, s.length()));
+			} else if (accumulators[slot] != null) {
+				if (r.values[slot] == null) {
+					r.values[slot] = accumulators[slot].create();
+				}
+				accumulators[slot].add(r.values[slot], s, start, s.length());
+			} else {
+				r.values[slot] = converters[slot].parse(s.substring(start));
+			}
+		} catch (PrimitiveOption.OutOfRangeException e) {
+			throw new OptionValueOutOfRangeException(options[slot], s.substring(start), e.getMessage());
+		} catch (Exception e) {
+			throw new CannotParseValueOfOptionException(options[slot], s.substring(start));
+		}
+	}
+
+
+
+	/** Returns the slot of the Option named by the first end characters of s, resolving abbreviations if they are allowed, or -1 */
+	int resolve (String s, int end) throws AmbiguousOptionException {
+		int slot = (end == 2 && s.charAt(0) == '-' && s.charAt(1) != '-')? index.get(s.charAt(1)) : index.find(s, 0, end);
+		if (slot == -1 && allowAbbreviations && s.startsWith("--")) {
+			if (end > 2) {
+				slot = index.findPrefix(s, end);
+				if (slot == -2) {
+					throw new AmbiguousOptionException(s.substring(0, end), index.candidates(s, end));
+				}
+			}
+		}
+		return slot;
+	}
+
+
+
+	/**
+	 * This method returns the Option whose short or long form matches the String passed to it.
+	 * Anything after a '=' in the String is ignored. If abbreviations are allowed, an unambiguous
+	 * abbreviation of a long form also matches.
+	 *
+	 * 	@param	s			the String to be compared with the Options
+	 * 	@return				the Option matching 's', or null if there is none
+	 * 	@throws	com.github.sahasatvik.cli.AmbiguousOptionException	thrown if 's' abbreviates several long forms
+	 * 	@since	0.3.0
+	 */
+
+	public Option<?> getOption (String s) throws AmbiguousOptionException {
+		int end = s.indexOf('=');
+		int slot = resolve(s, (end == -1)? s.length() : end);
+		return (slot == -1)? null : options[slot];
+	}
+
+
+
+	/**
+	 * This method returns the Option whose short form contains the character passed to it.
+	 *
+	 * 	@param	c			the character to be compared with the Options
+	 * 	@return				the Option matching 'c', or null if there is none
+	 * 	@since	0.3.0
+	 */
+
+	public Option<?> getOption (char c) {
+		int slot = resolve(c);
+		return (slot == -1)? null : options[slot];
+	}
+
+	/** Returns the slot of the Option whose short form is '-' followed by c, or -1 */
+	int resolve (char c) {
+		return index.get(c);
+	}
+
+
+
+	/**
+	 * This method returns the number of Options in this CommandSpec.
+	 *
+	 * 	@return				the number of Options
+	 * 	@since	0.3.0
+	 */
+
+	public int getOptionCount () {
+		return options.length;
+	}
+
+	/** Returns the slot of the Option, or -1 if it is not part of this CommandSpec */
+	int slotOf (Option<?> option) {
+		Integer slot = slots.get(option);
+		return (slot == null)? -1 : slot;
+	}
+
+	Option<?> optionAt (int slot) {
+		return options[slot];
+	}
+
+	boolean canHaveValue (int slot) {
+		return canHaveValue[slot];
+	}
+
+	Object defaultValue (int slot) {
+		return defaults[slot];
+	}
+
+	boolean hasPrimitives () {
+		return hasPrimitives;
+	}
+
+	/** Returns true if the Option in the slot is a PrimitiveOption */
+	boolean isPrimitive (int slot) {
+		return bits[slot] != null;
+	}
+
+	/** Returns an empty collection if the Option in the slot is a MultiOption, or null */
+	Object emptyCollection (int slot) {
+		return (accumulators[slot] == null)? null : accumulators[slot].create();
+	}
+
+	boolean hasDefaultBits (int slot) {
+		return hasDefaultBits[slot];
+	}
+
+	long defaultBits (int slot) {
+		return defaultBits[slot];
+	}
+} 
@@ -0,0 +1,233 @@
+package com.github.sahasatvik.cli;
+
+/**
+ * This class checks whether Strings can be parsed by the built-in conversions of {@link Parser},
+ * without throwing any Exceptions. Each check accepts exactly the Strings which the corresponding
+ * method of the Java API accepts, so that a String which passes a check can be handed to that 
+ * method, which will not throw.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.ParserRegistry
+ * 	@since		0.3.0
+ */
+
+final class Conversions {
+
+	/** The powers of ten which are exactly representable as doubles */
+	private static final double[] POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	private Conversions () {
+	}
+
+	/** Returns true if the characters of s from start to end are a decimal integer between min and max, as accepted by Long.parseLong */
+	static boolean isInteger (CharSequence s, int start, int end, long min, long max) {
+		if (start >= end) {
+			return false;
+		}
+		int i = start;
+		boolean negative = false;
+		char c = s.charAt(i);
+		if (c == '-' || c == '+') {
+			negative = (c == '-');
+			if (++i == end) {
+				return false;
+			}
+		}
+		/* Accumulate negatively, so that Long.MIN_VALUE does not overflow */
+		long limit = negative? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multmin = limit / 10;
+		long result = 0;
+		for (; i < end; i++) {
+			int d = Character.digit(s.charAt(i), 10);
+			if (d < 0 || result < multmin) {
+				return false;
+			}
+			result *= 10;
+			if (result < limit + d) {
+				return false;
+			}
+			result -= d;
+		}
+		long value = negative? result : -result;
+		return value >= min && value <= max;
+	}
+
+	/** Returns the value of the characters of s from start to end, which must have passed isInteger */
+	static long parseInteger (CharSequence s, int start, int end) {
+		return Long.parseLong(s, start, end, 10);
+	}
+
+	/** Returns true if s is a decimal floating point number, as accepted by Double.parseDouble */
+	static boolean isDecimal (String s) {
+		return isDecimal(s, 0, s.length());
+	}
+
+	/** Returns true if the characters of s from start to end are a decimal floating point number, as accepted by Double.parseDouble */
+	static boolean isDecimal (String s, int start, int end) {
+		while (start < end && s.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && s.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		int i = start;
+		if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+			i++;
+		}
+		if (s.startsWith("NaN", i) || s.startsWith("Infinity", i)) {
+			return (end - i) == (s.charAt(i) == 'N'? 3 : 8);
+		}
+		i = scanDecimal(s, i, end, Integer.MAX_VALUE, false);
+		if (i == -1) {
+			return false;
+		}
+		if (i < end && "fFdD".indexOf(s.charAt(i)) != -1) {
+			i++;
+		}
+		return i == end;
+	}
+
+	/**
+	 * Returns the value of the characters of s from start to end, which must have passed isDecimal.
+	 * Numbers of at most 15 significant digits, with a power of ten of at most 22, are computed 
+	 * exactly by a single multiplication or division, so they are rounded correctly without creating
+	 * a String. Any other number is left to Double.parseDouble.
+	 */
+	static double parseDecimal (String s, int start, int end) {
+		int from = start;
+		int to = end;
+		while (s.charAt(from) <= ' ') {
+			from++;
+		}
+		while (s.charAt(to - 1) <= ' ') {
+			to--;
+		}
+		int i = from;
+		boolean negative = false;
+		if (s.charAt(i) == '-' || s.charAt(i) == '+') {
+			negative = (s.charAt(i) == '-');
+			i++;
+		}
+		char c = s.charAt(i);
+		if (c == 'N') {
+			return Double.NaN;
+		} else if (c == 'I') {
+			return negative? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean point = false;
+		for (; i < to; i++) {
+			c = s.charAt(i);
+			if (c == '.') {
+				point = true;
+				continue;
+			} else if (!isDigit(c, false)) {
+				break;
+			}
+			if (point) {
+				exponent--;
+			}
+			if (mantissa != 0 || c != '0') {
+				if (++digits > 15) {
+					return Double.parseDouble(s.substring(start, end));
+				}
+				mantissa = mantissa * 10 + (c - '0');
+			}
+		}
+		if (i < to && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+			i++;
+			boolean negativeExponent = (s.charAt(i) == '-');
+			if (s.charAt(i) == '-' || s.charAt(i) == '+') {
+				i++;
+			}
+			int e = 0;
+			for (; i < to && isDigit(s.charAt(i), false); i++) {
+				if (e > 100000) {
+					return Double.parseDouble(s.substring(start, end));
+				}
+				e = e * 10 + (s.charAt(i) - '0');
+			}
+			exponent += negativeExponent? -e : e;
+		}
+		double value;
+		if (mantissa == 0) {
+			value = 0.0;
+		} else if (exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+			value = mantissa * POWERS_OF_TEN[exponent];
+		} else if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+			value = mantissa / POWERS_OF_TEN[-exponent];
+		} else {
+			return Double.parseDouble(s.substring(start, end));
+		}
+		return negative? -value : value;
+	}
+
+	/** Returns true if s is a decimal number with an exponent of at most 9 digits, as accepted by the BigDecimal constructor */
+	static boolean isBigDecimal (String s) {
+		int end = s.length();
+		int i = 0;
+		if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+			i++;
+		}
+		return scanDecimal(s, i, end, 9, true) == end;
+	}
+
+	/** Returns the end of the digits, point and exponent starting at start, or -1 if they are malformed */
+	private static int scanDecimal (String s, int start, int end, int maxExponentDigits, boolean unicode) {
+		int i = start;
+		int digits = 0;
+		while (i < end && isDigit(s.charAt(i), unicode)) {
+			i++;
+			digits++;
+		}
+		if (i < end && s.charAt(i) == '.') {
+			i++;
+			while (i < end && isDigit(s.charAt(i), unicode)) {
+				i++;
+				digits++;
+			}
+		}
+		if (digits == 0) {
+			return -1;
+		}
+		if (i < end && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+			i++;
+			if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+				i++;
+			}
+			int exponent = i;
+			while (i < end && isDigit(s.charAt(i), unicode)) {
+				i++;
+			}
+			if (i == exponent || i - exponent > maxExponentDigits) {
+				return -1;
+			}
+		}
+		return i;
+	}
+
+	/** Returns true if s is a hexadecimal floating point number, which is rare enough to be checked by Double.parseDouble itself */
+	static boolean isHexadecimal (String s) {
+		String t = s.trim();
+		int i = (t.startsWith("-") || t.startsWith("+"))? 1 : 0;
+		if (!t.startsWith("0x", i) && !t.startsWith("0X", i)) {
+			return false;
+		}
+		try {
+			Double.parseDouble(t);
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	private static boolean isDigit (char c, boolean unicode) {
+		return (c >= '0' && c <= '9') || (unicode && Character.isDigit(c));
+	}
+} 
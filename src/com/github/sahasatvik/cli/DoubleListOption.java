@@ -0,0 +1,68 @@
+package com.github.sahasatvik.cli;
+
+import com.github.sahasatvik.struct.DoubleSequence;
+
+/**
+ * This class describes an Option which may be given several times, collecting each of its values
+ * into a {@link DoubleSequence} of {@code double} values, eg. '-w=0.5 -w=0.25'. If a delimiter is set, each value 
+ * may also hold several elements, eg. '--weights=0.5,0.25,0.25'. Elements are parsed straight from the characters
+ * of the argument, so even a value holding hundreds of thousands of elements is read in a single
+ * pass, without creating a String or boxing a number for any element. For example :
+ * <pre>{@code
+ *	DoubleListOption weights = new DoubleListOption("-w", "--weights").setDelimiter(',');
+ *	ParseResult result = new CommandSpec(weights).parse(args);
+ *	DoubleSequence values = result.getValue(weights);		// Empty if --weights was not given
+ * }</pre>
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.ListOption
+ * 	@since		0.3.0
+ */
+
+public final class DoubleListOption extends MultiOption<DoubleSequence> {
+
+	/**
+	 * This constructor creates a DoubleListOption with the given short and long forms. It can always carry a value.
+	 *
+	 * 	@param	shortForm		the short form of the Option, eg. '-w'
+	 * 	@param	longForm		the long form of the Option, eg. '--weights'
+	 * 	@throws	com.github.sahasatvik.cli.IncorrectOptionSyntaxException	thrown if the forms are not of the correct syntax
+	 * 	@since	0.3.0
+	 */
+
+	public DoubleListOption (String shortForm, String longForm) throws IncorrectOptionSyntaxException {
+		super(shortForm, longForm);
+	}
+
+
+
+	/**
+	 * This method sets the delimiter separating several elements within a single value.
+	 *
+	 * 	@param	delimiter		the delimiter, eg. ','
+	 * 	@return				this DoubleListOption
+	 * 	@since	0.3.0
+	 */
+
+	public DoubleListOption setDelimiter (char delimiter) {
+		delimit(delimiter);
+		return this;
+	}
+
+	@Override
+	DoubleSequence newCollection () {
+		return new DoubleSequence();
+	}
+
+	@Override
+	Accumulator accumulator () {
+		return new Accumulator(this, (c, s, start, end) -> {
+			if (Conversions.isDecimal(s, start, end)) {
+				((DoubleSequence) c).push(Conversions.parseDecimal(s, start, end));
+			} else {
+				((DoubleSequence) c).push(Double.parseDouble(s.substring(start, end)));
+			}
+		});
+	}
+} 
@@ -0,0 +1,145 @@
+package com.github.sahasatvik.cli;
+
+/**
+ * This class describes an Option carrying a {@code double} value. The value is parsed straight from the
+ * argument, eg. '--ratio=0.25', into the bits of a {@code double} field, rounding exactly as Double.parseDouble does, and is never boxed unless 
+ * requested through {@link #getValue()}. A range may be set, outside of which values are rejected.
+ * For example :
+ * <pre>{@code
+ *	DoubleOption ratio = new DoubleOption("-r", "--ratio").setRange(0.0, 1.0).setDefaultValue(0.5);
+ *	ParseResult result = new CommandSpec(ratio).parse(args);
+ *	double n = result.getAsDouble(ratio);
+ * }</pre>
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.ParseResult#getAsDouble(DoubleOption)
+ * 	@since		0.3.0
+ */
+
+public final class DoubleOption extends PrimitiveOption<Double> {
+
+	private double min = Double.NEGATIVE_INFINITY;
+	private double max = Double.POSITIVE_INFINITY;
+
+	/**
+	 * This constructor creates a DoubleOption with the given short and long forms. It can always carry a value.
+	 *
+	 * 	@param	shortForm		the short form of the Option, eg. '-r'
+	 * 	@param	longForm		the long form of the Option, eg. '--ratio'
+	 * 	@throws	com.github.sahasatvik.cli.IncorrectOptionSyntaxException	thrown if the forms are not of the correct syntax
+	 * 	@since	0.3.0
+	 */
+
+	public DoubleOption (String shortForm, String longForm) throws IncorrectOptionSyntaxException {
+		super(shortForm, longForm);
+	}
+
+
+
+	/**
+	 * This method sets the range of values accepted by the Option. Values outside it trigger an
+	 * OptionValueOutOfRangeException.
+	 *
+	 * 	@param	min			the least value accepted
+	 * 	@param	max			the greatest value accepted
+	 * 	@return				this DoubleOption
+	 * 	@since	0.3.0
+	 */
+
+	public DoubleOption setRange (double min, double max) {
+		if (min > max) {
+			throw new IllegalArgumentException("The range of " + longForm + " is empty !");
+		}
+		this.min = min;
+		this.max = max;
+		return this;
+	}
+
+
+
+	/**
+	 * This method sets a default value to the Option, without boxing it.
+	 *
+	 * 	@param	defaultValue		the default value of the Option
+	 * 	@return				this DoubleOption
+	 * 	@since	0.3.0
+	 */
+
+	public DoubleOption setDefaultValue (double defaultValue) {
+		setBits(Double.doubleToRawLongBits(defaultValue));
+		return this;
+	}
+
+
+
+	/**
+	 * This method returns the value of the Option, as set by an ArgHandler, or its default value.
+	 *
+	 * 	@return				the value of the Option
+	 * 	@throws	com.github.sahasatvik.cli.MissingOptionValueException	thrown if the Option has neither a value nor a default value
+	 * 	@since	0.3.0
+	 */
+
+	public double getAsDouble () throws MissingOptionValueException {
+		return Double.longBitsToDouble(getBits());
+	}
+
+
+
+	/**
+	 * This method returns the least value accepted by the Option.
+	 *
+	 * 	@return				the least value accepted
+	 * 	@since	0.3.0
+	 */
+
+	public double getMin () {
+		return min;
+	}
+
+
+
+	/**
+	 * This method returns the greatest value accepted by the Option.
+	 *
+	 * 	@return				the greatest value accepted
+	 * 	@since	0.3.0
+	 */
+
+	public double getMax () {
+		return max;
+	}
+
+	@Override
+	Bits bits () {
+		double min = this.min;
+		double max = this.max;
+		return (s, start, end) -> {
+			double v;
+			if (Conversions.isDecimal(s, start, end)) {
+				v = Conversions.parseDecimal(s, start, end);
+			} else if (Conversions.isHexadecimal(s.substring(start, end))) {
+				v = Double.parseDouble(s.substring(start, end));
+			} else {
+				throw new NumberFormatException();
+			}
+			/* NaN lies outside any range, so it is only accepted if no range has been set */
+			boolean outside = (v != v)? (min != Double.NEGATIVE_INFINITY || max != Double.POSITIVE_INFINITY) : (v < min || v > max);
+			if (outside) {
+				throw new OutOfRangeException(min, max);
+			}
+			return Double.doubleToRawLongBits(v);
+		};
+	}
+
+	@Override
+	Double box (long bits) {
+		return Double.valueOf(Double.longBitsToDouble(bits));
+	}
+
+	@Override
+	long unbox (Double value) {
+		return Double.doubleToRawLongBits(value.doubleValue());
+	}
+} 
@@ -0,0 +1,67 @@
+package com.github.sahasatvik.cli;
+
+import com.github.sahasatvik.struct.IntSequence;
+
+/**
+ * This class describes an Option which may be given several times, collecting each of its values
+ * into an {@link IntSequence} of {@code int} values, eg. '-p=80 -p=443'. If a delimiter is set, each value 
+ * may also hold several elements, eg. '--ports=80,443,8080'. Elements are parsed straight from the characters
+ * of the argument, so even a value holding hundreds of thousands of elements is read in a single
+ * pass, without creating a String or boxing a number for any element. For example :
+ * <pre>{@code
+ *	IntListOption ports = new IntListOption("-p", "--ports").setDelimiter(',');
+ *	ParseResult result = new CommandSpec(ports).parse(args);
+ *	IntSequence values = result.getValue(ports);		// Empty if --ports was not given
+ * }</pre>
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.ListOption
+ * 	@since		0.3.0
+ */
+
+public final class IntListOption extends MultiOption<IntSequence> {
+
+	/**
+	 * This constructor creates an IntListOption with the given short and long forms. It can always carry a value.
+	 *
+	 * 	@param	shortForm		the short form of the Option, eg. '-p'
+	 * 	@param	longForm		the long form of the Option, eg. '--ports'
+	 * 	@throws	com.github.sahasatvik.cli.IncorrectOptionSyntaxException	thrown if the forms are not of the correct syntax
+	 * 	@since	0.3.0
+	 */
+
+	public IntListOption (String shortForm, String longForm) throws IncorrectOptionSyntaxException {
+		super(shortForm, longForm);
+	}
+
+
+
+	/**
+	 * This method sets the delimiter separating several elements within a single value.
+	 *
+	 * 	@param	delimiter		the delimiter, eg. ','
+	 * 	@return				this IntListOption
+	 * 	@since	0.3.0
+	 */
+
+	public IntListOption setDelimiter (char delimiter) {
+		delimit(delimiter);
+		return this;
+	}
+
+	@Override
+	IntSequence newCollection () {
+		return new IntSequence();
+	}
+
+	@Override
+	Accumulator accumulator () {
+		return new Accumulator(this, (c, s, start, end) -> {
+			if (!Conversions.isInteger(s, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+				throw new NumberFormatException();
+			}
+			((IntSequence) c).push((int) Conversions.parseInteger(s, start, end));
+		});
+	}
+} 
@@ -0,0 +1,139 @@
+package com.github.sahasatvik.cli;
+
+/**
+ * This class describes an Option carrying an {@code int} value. The value is parsed straight from the
+ * argument, eg. '--jobs=8', into an {@code int} field, and is never boxed unless 
+ * requested through {@link #getValue()}. A range may be set, outside of which values are rejected.
+ * For example :
+ * <pre>{@code
+ *	IntOption jobs = new IntOption("-j", "--jobs").setRange(1, 64).setDefaultValue(4);
+ *	ParseResult result = new CommandSpec(jobs).parse(args);
+ *	int n = result.getAsInt(jobs);
+ * }</pre>
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.ParseResult#getAsInt(IntOption)
+ * 	@since		0.3.0
+ */
+
+public final class IntOption extends PrimitiveOption<Integer> {
+
+	private int min = Integer.MIN_VALUE;
+	private int max = Integer.MAX_VALUE;
+
+	/**
+	 * This constructor creates an IntOption with the given short and long forms. It can always carry a value.
+	 *
+	 * 	@param	shortForm		the short form of the Option, eg. '-j'
+	 * 	@param	longForm		the long form of the Option, eg. '--jobs'
+	 * 	@throws	com.github.sahasatvik.cli.IncorrectOptionSyntaxException	thrown if the forms are not of the correct syntax
+	 * 	@since	0.3.0
+	 */
+
+	public IntOption (String shortForm, String longForm) throws IncorrectOptionSyntaxException {
+		super(shortForm, longForm);
+	}
+
+
+
+	/**
+	 * This method sets the range of values accepted by the Option. Values outside it trigger an 
+	 * OptionValueOutOfRangeException.
+	 *
+	 * 	@param	min			the least value accepted
+	 * 	@param	max			the greatest value accepted
+	 * 	@return				this IntOption
+	 * 	@since	0.3.0
+	 */
+
+	public IntOption setRange (int min, int max) {
+		if (min > max) {
+			throw new IllegalArgumentException("The range of " + longForm + " is empty !");
+		}
+		this.min = min;
+		this.max = max;
+		return this;
+	}
+
+
+
+	/**
+	 * This method sets a default value to the Option, without boxing it.
+	 *
+	 * 	@param	defaultValue		the default value of the Option
+	 * 	@return				this IntOption
+	 * 	@since	0.3.0
+	 */
+
+	public IntOption setDefaultValue (int defaultValue) {
+		setBits(defaultValue);
+		return this;
+	}
+
+
+
+	/**
+	 * This method returns the value of the Option, as set by an ArgHandler, or its default value.
+	 *
+	 * 	@return				the value of the Option
+	 * 	@throws	com.github.sahasatvik.cli.MissingOptionValueException	thrown if the Option has neither a value nor a default value
+	 * 	@since	0.3.0
+	 */
+
+	public int getAsInt () throws MissingOptionValueException {
+		return (int) getBits();
+	}
+
+
+
+	/**
+	 * This method returns the least value accepted by the Option.
+	 *
+	 * 	@return				the least value accepted
+	 * 	@since	0.3.0
+	 */
+
+	public int getMin () {
+		return min;
+	}
+
+
+
+	/**
+	 * This method returns the greatest value accepted by the Option.
+	 *
+	 * 	@return				the greatest value accepted
+	 * 	@since	0.3.0
+	 */
+
+	public int getMax () {
+		return max;
+	}
+
+	@Override
+	Bits bits () {
+		int min = this.min;
+		int max = this.max;
+		return (s, start, end) -> {
+			if (!Conversions.isInteger(s, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+				throw new NumberFormatException();
+			}
+			long v = Conversions.parseInteger(s, start, end);
+			if (v < min || v > max) {
+				throw new OutOfRangeException(min, max);
+			}
+			return v;
+		};
+	}
+
+	@Override
+	Integer box (long bits) {
+		return Integer.valueOf((int) bits);
+	}
+
+	@Override
+	long unbox (Integer value) {
+		return value.intValue();
+	}
+} 
@@ -0,0 +1,107 @@
+package com.github.sahasatvik.cli;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class describes an Option which may be given several times, collecting each of its values
+ * into a List, eg. '-I=src -I=lib'. If a delimiter is set, each value may also hold several elements, 
+ * eg. '--include=src:lib'. Each element is converted by the element Parser, or kept as a String if
+ * no element type or Parser is set. For example :
+ * <pre>{@code
+ *	ListOption<Path> include = new ListOption<Path>("-I", "--include").setElementType(Path.class)
+ *									  .setDelimiter(':');
+ *	ParseResult result = new CommandSpec(include).parse(args);
+ *	List<Path> paths = result.getValue(include);	// Empty if --include was not given
+ * }</pre>
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@param	<E>	the type of the elements
+ * 	@see		com.github.sahasatvik.cli.IntListOption
+ * 	@since		0.3.0
+ */
+
+public final class ListOption<E> extends MultiOption<List<E>> {
+
+	private Parser<E> elementParser;
+
+	/**
+	 * This constructor creates a ListOption with the given short and long forms. It can always carry a value.
+	 *
+	 * 	@param	shortForm		the short form of the Option, eg. '-I'
+	 * 	@param	longForm		the long form of the Option, eg. '--include'
+	 * 	@throws	com.github.sahasatvik.cli.IncorrectOptionSyntaxException	thrown if the forms are not of the correct syntax
+	 * 	@since	0.3.0
+	 */
+
+	public ListOption (String shortForm, String longForm) throws IncorrectOptionSyntaxException {
+		super(shortForm, longForm);
+	}
+
+
+
+	/**
+	 * This method sets the class of the elements, whose Parser is looked up in the default ParserRegistry.
+	 *
+	 * 	@param	elementClass		the class of the elements
+	 * 	@return				this ListOption
+	 * 	@throws	com.github.sahasatvik.cli.UnknownOptionValueTypeException	thrown if no Parser is registered for elementClass
+	 * 	@see	com.github.sahasatvik.cli.ParserRegistry
+	 * 	@since	0.3.0
+	 */
+
+	public ListOption<E> setElementType (Class<E> elementClass) throws UnknownOptionValueTypeException {
+		Parser<E> p = ParserRegistry.getDefault().lookup(elementClass);
+		if (p == null) {
+			throw new UnknownOptionValueTypeException(this, elementClass);
+		}
+		elementParser = p;
+		return this;
+	}
+
+
+
+	/**
+	 * This method sets the Parser which converts each element.
+	 *
+	 * 	@param	parser			the Parser to be used for each element
+	 * 	@return				this ListOption
+	 * 	@since	0.3.0
+	 */
+
+	public ListOption<E> useElementParser (Parser<E> parser) {
+		elementParser = parser;
+		return this;
+	}
+
+
+
+	/**
+	 * This method sets the delimiter separating several elements within a single value.
+	 *
+	 * 	@param	delimiter		the delimiter, eg. ','
+	 * 	@return				this ListOption
+	 * 	@since	0.3.0
+	 */
+
+	public ListOption<E> setDelimiter (char delimiter) {
+		delimit(delimiter);
+		return this;
+	}
+
+	@Override
+	List<E> newCollection () {
+		return new ArrayList<E>();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	Accumulator accumulator () {
+		Parser<E> p = elementParser;
+		if (p == null) {
+			return new Accumulator(this, (c, s, start, end) -> ((List<Object>) c).add(s.substring(start, end)));
+		}
+		return new Accumulator(this, (c, s, start, end) -> ((List<E>) c).add(p.parse(s.substring(start, end))));
+	}
+} 
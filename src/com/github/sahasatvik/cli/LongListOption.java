@@ -0,0 +1,67 @@
+package com.github.sahasatvik.cli;
+
+import com.github.sahasatvik.struct.LongSequence;
+
+/**
+ * This class describes an Option which may be given several times, collecting each of its values
+ * into a {@link LongSequence} of {@code long} values, eg. '-i=1 -i=2'. If a delimiter is set, each value 
+ * may also hold several elements, eg. '--ids=1,2,3'. Elements are parsed straight from the characters
+ * of the argument, so even a value holding hundreds of thousands of elements is read in a single
+ * pass, without creating a String or boxing a number for any element. For example :
+ * <pre>{@code
+ *	LongListOption ids = new LongListOption("-i", "--ids").setDelimiter(',');
+ *	ParseResult result = new CommandSpec(ids).parse(args);
+ *	LongSequence values = result.getValue(ids);		// Empty if --ids was not given
+ * }</pre>
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.ListOption
+ * 	@since		0.3.0
+ */
+
+public final class LongListOption extends MultiOption<LongSequence> {
+
+	/**
+	 * This constructor creates a LongListOption with the given short and long forms. It can always carry a value.
+	 *
+	 * 	@param	shortForm		the short form of the Option, eg. '-i'
+	 * 	@param	longForm		the long form of the Option, eg. '--ids'
+	 * 	@throws	com.github.sahasatvik.cli.IncorrectOptionSyntaxException	thrown if the forms are not of the correct syntax
+	 * 	@since	0.3.0
+	 */
+
+	public LongListOption (String shortForm, String longForm) throws IncorrectOptionSyntaxException {
+		super(shortForm, longForm);
+	}
+
+
+
+	/**
+	 * This method sets the delimiter separating several elements within a single value.
+	 *
+	 * 	@param	delimiter		the delimiter, eg. ','
+	 * 	@return				this LongListOption
+	 * 	@since	0.3.0
+	 */
+
+	public LongListOption setDelimiter (char delimiter) {
+		delimit(delimiter);
+		return this;
+	}
+
+	@Override
+	LongSequence newCollection () {
+		return new LongSequence();
+	}
+
+	@Override
+	Accumulator accumulator () {
+		return new Accumulator(this, (c, s, start, end) -> {
+			if (!Conversions.isInteger(s, start, end, Long.MIN_VALUE, Long.MAX_VALUE)) {
+				throw new NumberFormatException();
+			}
+			((LongSequence) c).push(Conversions.parseInteger(s, start, end));
+		});
+	}
+} 
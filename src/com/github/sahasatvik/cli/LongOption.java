@@ -0,0 +1,139 @@
+package com.github.sahasatvik.cli;
+
+/**
+ * This class describes an Option carrying a {@code long} value. The value is parsed straight from the
+ * argument, eg. '--seed=123456789012', into a {@code long} field, and is never boxed unless 
+ * requested through {@link #getValue()}. A range may be set, outside of which values are rejected.
+ * For example :
+ * <pre>{@code
+ *	LongOption seed = new LongOption("-s", "--seed").setRange(0, Long.MAX_VALUE).setDefaultValue(42);
+ *	ParseResult result = new CommandSpec(seed).parse(args);
+ *	long n = result.getAsLong(seed);
+ * }</pre>
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.ParseResult#getAsLong(LongOption)
+ * 	@since		0.3.0
+ */
+
+public final class LongOption extends PrimitiveOption<Long> {
+
+	private long min = Long.MIN_VALUE;
+	private long max = Long.MAX_VALUE;
+
+	/**
+	 * This constructor creates a LongOption with the given short and long forms. It can always carry a value.
+	 *
+	 * 	@param	shortForm		the short form of the Option, eg. '-s'
+	 * 	@param	longForm		the long form of the Option, eg. '--seed'
+	 * 	@throws	com.github.sahasatvik.cli.IncorrectOptionSyntaxException	thrown if the forms are not of the correct syntax
+	 * 	@since	0.3.0
+	 */
+
+	public LongOption (String shortForm, String longForm) throws IncorrectOptionSyntaxException {
+		super(shortForm, longForm);
+	}
+
+
+
+	/**
+	 * This method sets the range of values accepted by the Option. Values outside it trigger an 
+	 * OptionValueOutOfRangeException.
+	 *
+	 * 	@param	min			the least value accepted
+	 * 	@param	max			the greatest value accepted
+	 * 	@return				this LongOption
+	 * 	@since	0.3.0
+	 */
+
+	public LongOption setRange (long min, long max) {
+		if (min > max) {
+			throw new IllegalArgumentException("The range of " + longForm + " is empty !");
+		}
+		this.min = min;
+		this.max = max;
+		return this;
+	}
+
+
+
+	/**
+	 * This method sets a default value to the Option, without boxing it.
+	 *
+	 * 	@param	defaultValue		the default value of the Option
+	 * 	@return				this LongOption
+	 * 	@since	0.3.0
+	 */
+
+	public LongOption setDefaultValue (long defaultValue) {
+		setBits(defaultValue);
+		return this;
+	}
+
+
+
+	/**
+	 * This method returns the value of the Option, as set by an ArgHandler, or its default value.
+	 *
+	 * 	@return				the value of the Option
+	 * 	@throws	com.github.sahasatvik.cli.MissingOptionValueException	thrown if the Option has neither a value nor a default value
+	 * 	@since	0.3.0
+	 */
+
+	public long getAsLong () throws MissingOptionValueException {
+		return getBits();
+	}
+
+
+
+	/**
+	 * This method returns the least value accepted by the Option.
+	 *
+	 * 	@return				the least value accepted
+	 * 	@since	0.3.0
+	 */
+
+	public long getMin () {
+		return min;
+	}
+
+
+
+	/**
+	 * This method returns the greatest value accepted by the Option.
+	 *
+	 * 	@return				the greatest value accepted
+	 * 	@since	0.3.0
+	 */
+
+	public long getMax () {
+		return max;
+	}
+
+	@Override
+	Bits bits () {
+		long min = this.min;
+		long max = this.max;
+		return (s, start, end) -> {
+			if (!Conversions.isInteger(s, start, end, Long.MIN_VALUE, Long.MAX_VALUE)) {
+				throw new NumberFormatException();
+			}
+			long v = Conversions.parseInteger(s, start, end);
+			if (v < min || v > max) {
+				throw new OutOfRangeException(min, max);
+			}
+			return v;
+		};
+	}
+
+	@Override
+	Long box (long bits) {
+		return Long.valueOf(bits);
+	}
+
+	@Override
+	long unbox (Long value) {
+		return value.longValue();
+	}
+} 
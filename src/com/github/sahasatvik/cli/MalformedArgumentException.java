@@ -0,0 +1,29 @@
+
+package com.github.sahasatvik.cli;
+
+/**
+ * A MalformedArgumentException describes the nature of an error on reading arguments from text, 
+ * such as an argument file. This Exception is thrown when the text cannot be read, or cannot be 
+ * split into arguments, eg. because a quote is never closed.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.ArgumentException
+ * 	@see		com.github.sahasatvik.cli.ArgHandlerException
+ * 	@since		0.3.0
+ * 
+ */
+
+public class MalformedArgumentException extends ArgumentException {
+	
+	/**
+	 * Constructor of MalformedArgumentException. 
+	 *
+	 * 	@param	message		a brief description of the Exception
+	 * 	@since	0.3.0
+	 */
+
+	public MalformedArgumentException (String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,121 @@
+package com.github.sahasatvik.cli;
+
+/**
+ * This class is the base of Options which may be given several times, and whose values are 
+ * accumulated into a collection instead of replacing each other. A value may itself hold several 
+ * elements separated by a delimiter, eg. '--ids=1,2,3'. The value is split in a single pass over
+ * its characters, without creating an array of parts, and each element is added to the collection
+ * as soon as it is found.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@param	<C>	the type of collection the values are accumulated into
+ * 	@see		com.github.sahasatvik.cli.ListOption
+ * 	@see		com.github.sahasatvik.cli.IntListOption
+ * 	@see		com.github.sahasatvik.cli.LongListOption
+ * 	@see		com.github.sahasatvik.cli.DoubleListOption
+ * 	@since		0.3.0
+ */
+
+abstract class MultiOption<C> extends Option<C> {
+
+	/** Adds the element held by the characters of s from start to end to a collection */
+	@FunctionalInterface
+	interface Element {
+		void add (Object collection, String s, int start, int end) throws Exception;
+	}
+
+	/** Creates collections, and splits values into them, as configured when it was created */
+	static final class Accumulator {
+
+		private final Element element;
+		private final char delimiter;
+		private final boolean split;
+		private final MultiOption<?> option;
+
+		Accumulator (MultiOption<?> option, Element element) {
+			this.option = option;
+			this.element = element;
+			this.delimiter = option.delimiter;
+			this.split = option.split;
+		}
+
+		Object create () {
+			return option.newCollection();
+		}
+
+		/** Adds each element of the characters of s from start to end to the collection */
+		void add (Object collection, String s, int start, int end) throws Exception {
+			if (!split) {
+				element.add(collection, s, start, end);
+				return;
+			}
+			int from = start;
+			for (int i = start; i < end; i++) {
+				if (s.charAt(i) == delimiter) {
+					element.add(collection, s, from, i);
+					from = i + 1;
+				}
+			}
+			element.add(collection, s, from, end);
+		}
+	}
+
+	private char delimiter;
+	private boolean split;
+
+	MultiOption (String shortForm, String longForm) throws IncorrectOptionSyntaxException {
+		super(shortForm, longForm);
+		canHaveValue(true);
+	}
+
+	/** Sets the delimiter separating the elements of a single value */
+	void delimit (char delimiter) {
+		this.delimiter = delimiter;
+		this.split = true;
+	}
+
+	/** Returns an empty collection */
+	abstract C newCollection ();
+
+	/** Returns an Accumulator for the values of this Option, as currently configured */
+	abstract Accumulator accumulator ();
+
+	/**
+	 * This method returns the delimiter separating the elements of a single value.
+	 *
+	 * 	@return				the delimiter, or 0 if values are not split
+	 * 	@since	0.3.0
+	 */
+
+	public char getDelimiter () {
+		return split? delimiter : 0;
+	}
+
+	@Override
+	public void parseValue (String rawValue) throws CannotParseValueOfOptionException {
+		if (rawValue.length() > 0) {
+			if (value == null) {
+				value = newCollection();
+			}
+			try {
+				accumulator().add(value, rawValue, 0, rawValue.length());
+			} catch (Exception e) {
+				throw new CannotParseValueOfOptionException(this, rawValue);
+			}
+		}
+	}
+
+	/**
+	 * This method returns the values accumulated by the Option, or its default value. If neither
+	 * exists, an empty collection is returned.
+	 *
+	 * 	@return				the accumulated values
+	 * 	@since	0.3.0
+	 */
+
+	@Override
+	public C getValue () {
+		return (value == null)? newCollection() : value;
+	}
+} 
@@ -86,16 +86,11 @@ public class Option<T> {
 	
 	/** The boolean storing whether the Option can have a value */
 	public boolean canHaveValue;
-	/** The boolean storing whether the value is to be parsed using a parser provided */
-	private boolean useParser;
-	/** The parser to use, if provided */
+	/** The parser to use, either provided or looked up from the value type */
 	private Parser<T> parser;
 
 	/** The value assigned to the Option */
 	public T value;
-	
-	/** The class of the value assigned to the Option */
-	private Class<T> valueTypeClass;
 
 
 
@@ -123,7 +118,6 @@ public class Option<T> {
 		this.longForm = longForm;
 		this.state = false;
 		this.canHaveValue = false;
-		this.useParser = false;
 	}
 
 
@@ -143,44 +137,46 @@ public class Option<T> {
 	
 	
 	/**
-	 * This method accepts the Option's value type's class. 
-	 * The value type class must be one of the following : <br>
-	 * <pre>{@code
-	 *	Character.class
-	 *	String.class
-	 *	Byte.class
-	 *	Short.class
-	 *	Integer.class
-	 *	Long.class
-	 *	Float.class
-	 *	Double.class
-	 * }</pre><br>
-	 * Any value type class other than the above will throw an InvalidOptionTypeException.
+	 * This method accepts the Option's value type's class. The Parser registered for it in the 
+	 * default {@link ParserRegistry} is looked up once, and used to convert every value assigned
+	 * to the Option. The built-in value types include the boxed and primitive types, String,
+	 * BigDecimal, Path, Duration, Instant and enums, and others can be registered with the
+	 * ParserRegistry. Any value type class without a Parser will throw an UnknownOptionValueTypeException.
 	 * 	
 	 * 	@param	valueTypeClass		the class of the type of value which can be assigned to the OptionWithValue
 	 * 	@return				this Option
-	 * 	@throws	com.github.sahasatvik.cli.UnknownOptionValueTypeException		thrown if valueTypeClass does not belong to the list of accepted classes
+	 * 	@throws	com.github.sahasatvik.cli.UnknownOptionValueTypeException		thrown if no Parser is registered for valueTypeClass
 	 * 	@throws	com.github.sahasatvik.cli.CannotParseValueOfOptionException	thrown if the Option cannot carry a value
+	 * 	@see	com.github.sahasatvik.cli.ParserRegistry
 	 * 	@since	0.1.0
 	 */
 
 	public Option<T> setValueType (Class<T> valueTypeClass) throws UnknownOptionValueTypeException, CannotParseValueOfOptionException {
+		return setValueType(valueTypeClass, ParserRegistry.getDefault());
+	}
+
+
+
+	/**
+	 * This method accepts the Option's value type's class, and looks up its Parser in the 
+	 * ParserRegistry passed to it, instead of the default one.
+	 * 	
+	 * 	@param	valueTypeClass		the class of the type of value which can be assigned to the OptionWithValue
+	 * 	@param	registry		the ParserRegistry holding the Parser for valueTypeClass
+	 * 	@return				this Option
+	 * 	@throws	com.github.sahasatvik.cli.UnknownOptionValueTypeException		thrown if no Parser is registered for valueTypeClass
+	 * 	@throws	com.github.sahasatvik.cli.CannotParseValueOfOptionException	thrown if the Option cannot carry a value
+	 * 	@see	#setValueType(Class)
+	 * 	@since	0.3.0
+	 */
+
+	public Option<T> setValueType (Class<T> valueTypeClass, ParserRegistry registry) throws UnknownOptionValueTypeException, CannotParseValueOfOptionException {
 		if (canHaveValue) {
-			this.valueTypeClass = valueTypeClass;
-			switch (this.valueTypeClass.getName()) {
-				case "java.lang.Character":
-				case "java.lang.String"	:
-				case "java.lang.Byte"	:
-				case "java.lang.Short"	:
-				case "java.lang.Integer":
-				case "java.lang.Long"	:
-				case "java.lang.Float"	:
-				case "java.lang.Double" :
-					this.useParser = false;
-					break;
-				default :
-					throw new UnknownOptionValueTypeException(this, valueTypeClass);
+			Parser<T> p = registry.lookup(valueTypeClass);
+			if (p == null) {
+				throw new UnknownOptionValueTypeException(this, valueTypeClass);
 			}
+			this.parser = p;
 		} else {
 			throw new CannotParseValueOfOptionException(this);
 		}
@@ -201,7 +197,6 @@ public class Option<T> {
 
 	public Option<T> useParser (Parser<T> parser) throws CannotParseValueOfOptionException {
 		if (canHaveValue) {
-			this.useParser = true;
 			this.parser = parser;
 		} else {
 			throw new CannotParseValueOfOptionException(this);
@@ -276,11 +271,7 @@ public class Option<T> {
 	public void parseValue (String rawValue) throws CannotParseValueOfOptionException {
 		if (canHaveValue && (rawValue.length() > 0)) {
 			try {
-				if (useParser) {
-					value = parser.parse(rawValue);
-				} else {
-					value = Parser.<T>parse(rawValue, valueTypeClass);
-				}
+				value = parser.parse(rawValue);
 			} catch (Exception e) {
 				throw new CannotParseValueOfOptionException(this, rawValue);
 			}
@@ -291,6 +282,17 @@ public class Option<T> {
 	
 	
 	
+	/**
+	 * Returns the Parser which converts raw values of this Option, as currently configured, 
+	 * or null if neither a value type nor a Parser has been set.
+	 */
+
+	Parser<T> converter () {
+		return parser;
+	}
+
+
+
 	/**
 	 * This method returns the value of the Option, if set previously. If not, and Exception is thrown.
 	 *
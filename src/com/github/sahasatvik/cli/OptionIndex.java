@@ -0,0 +1,206 @@
+
+package com.github.sahasatvik.cli;
+
+import java.util.Arrays;
+
+/**
+ * This class indexes a set of Options by their short and long forms, so that the slot of the
+ * Option named by an argument can be found in constant time. Short forms made of an ASCII character
+ * are looked up directly in a table of 128 entries. Long forms, and any other short forms, are
+ * kept in an open-addressing hash table whose hash is computed over the characters of the 
+ * argument up to the '=' sign, so that looking up an argument such as '--max=10' neither 
+ * creates a substring nor allocates anything else.
+ * <p>
+ * If several Options share a form, the one added first is found, as with the linear search
+ * previously used by ArgHandler.
+ * <p>
+ * Once all Options have been added, {@link #sortLongForms()} also keeps the long forms in a sorted
+ * array, so that an abbreviated long form such as '--verb' can be resolved by binary search to 
+ * the only long form it is a prefix of, eg. '--verbose'.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.ArgHandler
+ * 	@since		0.3.0
+ */
+
+final class OptionIndex {
+
+	private final int[] shorts = new int[128];
+	
+	private String[] keys = new String[16];
+	private int[] slots = new int[16];
+	private int count;
+
+	private String[] sortedLongs;
+	private int[] sortedSlots;
+
+	OptionIndex () {
+		Arrays.fill(shorts, -1);
+	}
+
+	/** Adds the short and long forms of the Option to the index, under the given slot */
+	void add (Option<?> option, int slot) {
+		char c = option.shortForm.charAt(1);
+		if (c < 128) {
+			if (shorts[c] == -1) {
+				shorts[c] = slot;
+			}
+		} else {
+			put(option.shortForm, slot);
+		}
+		put(option.longForm, slot);
+	}
+
+	private void put (String key, int slot) {
+		if (find(key, 0, key.length()) != -1) {
+			return;
+		}
+		if (2 * (count + 1) > keys.length) {
+			String[] oldKeys = keys;
+			int[] oldSlots = slots;
+			keys = new String[oldKeys.length * 2];
+			slots = new int[oldKeys.length * 2];
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != null) {
+					insert(oldKeys[i], oldSlots[i]);
+				}
+			}
+		}
+		insert(key, slot);
+		count++;
+	}
+
+	private void insert (String key, int slot) {
+		int m = keys.length - 1;
+		int i = spread(key.hashCode()) & m;
+		while (keys[i] != null) {
+			i = (i + 1) & m;
+		}
+		keys[i] = key;
+		slots[i] = slot;
+	}
+
+	private static int spread (int h) {
+		return h ^ (h >>> 16);
+	}
+
+	/** Returns the slot of the Option with a form equal to s[start, end), or -1 */
+	int find (String s, int start, int end) {
+		int h = 0;
+		for (int i = start; i < end; i++) {
+			h = 31 * h + s.charAt(i);
+		}
+		int m = keys.length - 1;
+		int len = end - start;
+		for (int i = spread(h) & m; keys[i] != null; i = (i + 1) & m) {
+			String k = keys[i];
+			if (k.length() == len && k.regionMatches(0, s, start, len)) {
+				return slots[i];
+			}
+		}
+		return -1;
+	}
+
+	/** Returns the slot of the Option whose short form is '-' followed by c, or -1 */
+	int get (char c) {
+		if (c < 128) {
+			return shorts[c];
+		}
+		int h = spread(31 * '-' + c);
+		int m = keys.length - 1;
+		for (int i = h & m; keys[i] != null; i = (i + 1) & m) {
+			String k = keys[i];
+			if (k.length() == 2 && k.charAt(0) == '-' && k.charAt(1) == c) {
+				return slots[i];
+			}
+		}
+		return -1;
+	}
+
+	/** Returns the slot of the Option matching s as in Option.matches(String), ignoring anything after '=', or -1 */
+	int get (String s) {
+		int end = s.indexOf('=');
+		if (end == -1) {
+			end = s.length();
+		}
+		if (end == 2 && s.charAt(0) == '-' && s.charAt(1) != '-') {
+			return get(s.charAt(1));
+		}
+		return find(s, 0, end);
+	}
+
+	/** Builds the sorted array of long forms used to resolve abbreviations */
+	void sortLongForms () {
+		int n = 0;
+		for (String k : keys) {
+			if (k != null && k.startsWith("--")) {
+				n++;
+			}
+		}
+		sortedLongs = new String[n];
+		n = 0;
+		for (String k : keys) {
+			if (k != null && k.startsWith("--")) {
+				sortedLongs[n++] = k;
+			}
+		}
+		Arrays.sort(sortedLongs);
+		sortedSlots = new int[n];
+		for (int i = 0; i < n; i++) {
+			sortedSlots[i] = find(sortedLongs[i], 0, sortedLongs[i].length());
+		}
+	}
+
+	/** Returns the index of the first sorted long form which is not less than s[0, end) */
+	private int lowerBound (String s, int end) {
+		int lo = 0;
+		int hi = sortedLongs.length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (compare(sortedLongs[mid], s, end) < 0) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	private static int compare (String k, String s, int end) {
+		int n = Math.min(k.length(), end);
+		for (int i = 0; i < n; i++) {
+			int d = k.charAt(i) - s.charAt(i);
+			if (d != 0) {
+				return d;
+			}
+		}
+		return k.length() - end;
+	}
+
+	private boolean isPrefix (int i, String s, int end) {
+		return i < sortedLongs.length && sortedLongs[i].length() >= end && sortedLongs[i].regionMatches(0, s, 0, end);
+	}
+
+	/** 
+	 * Returns the slot of the only long form which s[0, end) is a prefix of, -1 if there is 
+	 * none, or -2 if there are several.
+	 */
+	int findPrefix (String s, int end) {
+		int i = lowerBound(s, end);
+		if (!isPrefix(i, s, end)) {
+			return -1;
+		}
+		return isPrefix(i + 1, s, end)? -2 : sortedSlots[i];
+	}
+
+	/** Returns all long forms which s[0, end) is a prefix of */
+	String[] candidates (String s, int end) {
+		int from = lowerBound(s, end);
+		int to = from;
+		while (isPrefix(to, s, end)) {
+			to++;
+		}
+		return Arrays.copyOfRange(sortedLongs, from, to);
+	}
+} 
@@ -0,0 +1,30 @@
+package com.github.sahasatvik.cli;
+
+/**
+ * An OptionValueOutOfRangeException describes the nature of an error on parsing values of options in 
+ * ArgHandler. This Exception is thrown when an IntOption, LongOption or DoubleOption has been given a
+ * value of the right type, which lies outside the range set for the Option.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.CannotParseValueOfOptionException
+ * 	@see		com.github.sahasatvik.cli.IntOption#setRange(int, int)
+ * 	@since		0.3.0
+ * 
+ */
+
+public class OptionValueOutOfRangeException extends CannotParseValueOfOptionException {
+	
+	/**
+	 * Constructor of OptionValueOutOfRangeException.
+	 *
+	 * 	@param	option		the option in question
+	 * 	@param	value		the value outside the range
+	 * 	@param	range		the range accepted by the option, eg. '1 to 64'
+	 * 	@since	0.3.0
+	 */
+
+	public OptionValueOutOfRangeException (Option<?> option, String value, String range) {
+		super(option.longForm, value, "it is outside the range " + range);
+	}
+}
@@ -0,0 +1,355 @@
+
+package com.github.sahasatvik.cli;
+
+import com.github.sahasatvik.struct.*;
+
+import java.util.Arrays;
+
+/**
+ * This class holds the result of parsing an array of arguments with a {@link CommandSpec} : the
+ * state and value of each Option, and the queue of remaining arguments. Each call to 
+ * {@link CommandSpec#parse(String[])} returns a new ParseResult, so results of different parses 
+ * never interfere with each other, even when they share a CommandSpec.
+ * <p>
+ * The states and values of Options are looked up using the Option objects the CommandSpec was 
+ * built from. The arguments can be retrieved in the same way as from an ArgHandler. A ParseResult 
+ * itself is not synchronized, and is meant to be used by the thread which created it.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.CommandSpec
+ * 	@since		0.3.0
+ */
+
+public final class ParseResult {
+
+	private final CommandSpec spec;
+
+	final boolean[] states;
+	final Object[] values;
+	final Arguments arguments;
+
+	/** The bits of the values of primitive Options, which are only allocated if the CommandSpec has any */
+	private final long[] bits;
+	private final boolean[] assigned;
+
+	/** The tokens the Options were parsed from, if they were parsed from an array of arguments */
+	TokenTable tokens;
+
+	ParseResult (CommandSpec spec) {
+		int n = spec.getOptionCount();
+		this.spec = spec;
+		this.states = new boolean[n];
+		this.values = new Object[n];
+		this.arguments = new Arguments();
+		this.bits = spec.hasPrimitives()? new long[n] : null;
+		this.assigned = spec.hasPrimitives()? new boolean[n] : null;
+	}
+
+
+
+	/**
+	 * This method returns whether the Option passed to it was present in the arguments.
+	 *
+	 * 	@param	option			the Option to be queried
+	 * 	@return				true if the Option was present, false if it was absent or is not part of the CommandSpec
+	 * 	@since	0.3.0
+	 */
+
+	public boolean getState (Option<?> option) {
+		int slot = spec.slotOf(option);
+		return slot != -1 && states[slot];
+	}
+
+
+
+	/**
+	 * This method returns the value assigned to the Option passed to it, or its default value
+	 * if no value was assigned. The values of a ListOption, or of another Option which may be given 
+	 * several times, are returned as a single collection, which is empty if the Option was absent.
+	 *
+	 * 	@param	<T>			the type of value the Option holds
+	 * 	@param	option			the Option to be queried
+	 * 	@return				the value of the Option
+	 * 	@throws	com.github.sahasatvik.cli.InvalidOptionException		thrown if the Option is not part of the CommandSpec
+	 * 	@throws	com.github.sahasatvik.cli.CannotParseValueOfOptionException	thrown if the Option cannot carry a value
+	 * 	@throws	com.github.sahasatvik.cli.MissingOptionValueException	thrown if the Option has neither a value nor a default value
+	 * 	@since	0.3.0
+	 */
+
+	public <T> T getValue (Option<T> option) throws InvalidOptionException, CannotParseValueOfOptionException, MissingOptionValueException {
+		int slot = spec.slotOf(option);
+		if (slot == -1) {
+			throw new InvalidOptionException("Option " + option.longForm + " is not part of this CommandSpec !");
+		}
+		Object value = values[slot];
+		if (value == null && spec.isPrimitive(slot) && assigned[slot]) {
+			value = ((PrimitiveOption<?>) option).box(bits[slot]);
+		} else if (value == null) {
+			value = spec.defaultValue(slot);
+		}
+		if (value == null) {
+			value = spec.emptyCollection(slot);
+		}
+		if (value == null) {
+			throw new MissingOptionValueException(option);
+		} else if (!spec.canHaveValue(slot)) {
+			throw new CannotParseValueOfOptionException(option);
+		}
+		@SuppressWarnings("unchecked")
+		T t = (T) value;
+		return t;
+	}
+
+
+
+	/**
+	 * This method returns the value assigned to the IntOption passed to it, or its default value
+	 * if no value was assigned, without boxing it.
+	 *
+	 * 	@param	option			the IntOption to be queried
+	 * 	@return				the value of the IntOption
+	 * 	@throws	com.github.sahasatvik.cli.InvalidOptionException		thrown if the IntOption is not part of the CommandSpec
+	 * 	@throws	com.github.sahasatvik.cli.MissingOptionValueException	thrown if the IntOption has neither a value nor a default value
+	 * 	@since	0.3.0
+	 */
+
+	public int getAsInt (IntOption option) throws InvalidOptionException, MissingOptionValueException {
+		return (int) getBits(option);
+	}
+
+
+
+	/**
+	 * This method returns the value assigned to the LongOption passed to it, or its default value
+	 * if no value was assigned, without boxing it.
+	 *
+	 * 	@param	option			the LongOption to be queried
+	 * 	@return				the value of the LongOption
+	 * 	@throws	com.github.sahasatvik.cli.InvalidOptionException		thrown if the LongOption is not part of the CommandSpec
+	 * 	@throws	com.github.sahasatvik.cli.MissingOptionValueException	thrown if the LongOption has neither a value nor a default value
+	 * 	@since	0.3.0
+	 */
+
+	public long getAsLong (LongOption option) throws InvalidOptionException, MissingOptionValueException {
+		return getBits(option);
+	}
+
+
+
+	/**
+	 * This method returns the value assigned to the DoubleOption passed to it, or its default value
+	 * if no value was assigned, without boxing it.
+	 *
+	 * 	@param	option			the DoubleOption to be queried
+	 * 	@return				the value of the DoubleOption
+	 * 	@throws	com.github.sahasatvik.cli.InvalidOptionException		thrown if the DoubleOption is not part of the CommandSpec
+	 * 	@throws	com.github.sahasatvik.cli.MissingOptionValueException	thrown if the DoubleOption has neither a value nor a default value
+	 * 	@since	0.3.0
+	 */
+
+	public double getAsDouble (DoubleOption option) throws InvalidOptionException, MissingOptionValueException {
+		return Double.longBitsToDouble(getBits(option));
+	}
+
+	/**
+	 * This method returns the raw value last assigned to the Option passed to it, as it appears after
+	 * the '=' in the arguments, without copying it. It returns null if no value was assigned, or if 
+	 * the arguments were not parsed from an array, eg. by a {@link Session}.
+	 *
+	 * 	@param	option			the Option to be queried
+	 * 	@return				a view of the raw value of the Option, or null
+	 * 	@throws	com.github.sahasatvik.cli.InvalidOptionException		thrown if the Option is not part of the CommandSpec
+	 * 	@since	0.3.0
+	 */
+
+	public CharSequence getRawValue (Option<?> option) throws InvalidOptionException {
+		int slot = spec.slotOf(option);
+		if (slot == -1) {
+			throw new InvalidOptionException("Option " + option.longForm + " is not part of this CommandSpec !");
+		}
+		int token = (tokens == null)? -1 : tokens.lastValue(slot);
+		return (token == -1)? null : tokens.value(token);
+	}
+
+	private long getBits (PrimitiveOption<?> option) throws InvalidOptionException, MissingOptionValueException {
+		int slot = spec.slotOf(option);
+		if (slot == -1) {
+			throw new InvalidOptionException("Option " + option.longForm + " is not part of this CommandSpec !");
+		}
+		if (assigned[slot]) {
+			return bits[slot];
+		} else if (spec.hasDefaultBits(slot)) {
+			return spec.defaultBits(slot);
+		}
+		throw new MissingOptionValueException(option);
+	}
+
+	/** Clears the states, values and arguments, so that this ParseResult can be reused */
+	void reset () {
+		Arrays.fill(states, false);
+		Arrays.fill(values, null);
+		if (assigned != null) {
+			Arrays.fill(assigned, false);
+		}
+		while (arguments.poll() != null) {
+		}
+		tokens = null;
+	}
+
+	void setBits (int slot, long value) {
+		bits[slot] = value;
+		assigned[slot] = true;
+	}
+
+	/** Copies the states and parsed values into the Option objects themselves, as ArgHandler does */
+	@SuppressWarnings("unchecked")
+	void applyTo () {
+		for (int i = 0; i < states.length; i++) {
+			Option<Object> f = (Option<Object>) spec.optionAt(i);
+			if (states[i]) {
+				f.setState(true);
+			}
+			if (values[i] != null) {
+				f.setValue(values[i]);
+			} else if (spec.isPrimitive(i) && assigned[i]) {
+				((PrimitiveOption<?>) f).setBits(bits[i]);
+			}
+		}
+	}
+
+
+
+	/**
+	 * Returns the number of arguments currently in the queue.
+	 *
+	 * 	@return				number of arguments in the queue
+	 * 	@since	0.3.0
+	 */
+
+	public int argCount () {
+		return arguments.count();
+	}
+
+
+
+	/**
+	 * Returns true if the arguments queue still contains arguments.
+	 *
+	 * 	@return				false, if all arguments have been popped out of the queue
+	 * 	@since	0.3.0
+	 */
+
+	public boolean hasMoreArgs () {
+		return arguments.peek() != null;
+	}
+
+
+
+	/**
+	 * Returns the first argument in the queue, then pops it out.
+	 *
+	 * 	@return				first argument in the queue
+	 * 	@throws	com.github.sahasatvik.cli.NoRemainingArgumentsException	thrown if no arguments are left in the queue 
+	 * 	@since	0.3.0
+	 */
+
+	public String next () throws NoRemainingArgumentsException {
+		Argument a = arguments.poll();
+		if (a == null) {
+			throw new NoRemainingArgumentsException();
+		}
+		return a.getValue();
+	}
+
+
+
+	/**
+	 * Returns the next argument of the class type 'clazz' passed to the method.
+	 * If the first argument cannot be cast into the mentioned type, this method will 
+	 * loop through the remaining arguments until a suitable argument is found, or 
+	 * the end of the argument queue is reached.
+	 *
+	 * 	@param	<T>			the target type
+	 * 	@param	clazz			the class of the target type
+	 * 	@return				the first argument which can be parsed a 'clazz'
+	 * 	@throws	com.github.sahasatvik.cli.NoRemainingArgumentsException	thrown if no argument is found
+	 * 	@throws	com.github.sahasatvik.cli.NoArgumentOfRequiredTypeFoundException	thrown if no parsable arguments are left
+	 * 	@see	com.github.sahasatvik.cli.ParserRegistry#lookup(Class)
+	 * 	@since	0.3.0
+	 */
+	
+	public <T> T next (Class<T> clazz) throws NoRemainingArgumentsException, NoArgumentOfRequiredTypeFoundException {
+		if (!hasMoreArgs()) {
+			throw new NoRemainingArgumentsException();
+		}
+		Parser<T> parser = ParserRegistry.getDefault().lookup(clazz);
+		if (parser != null) {
+			T value = next(parser, argCount());
+			if (value != null) {
+				return value;
+			}
+		}
+		throw new NoArgumentOfRequiredTypeFoundException(clazz);
+	}
+
+
+
+	/**
+	 * Returns the next argument which can be parsed by the parser passed to the method.
+	 * If the first argument cannot be parsed by the mentioned parser this method will 
+	 * loop through the remaining arguments until a suitable argument is found, or 
+	 * the end of the argument queue is reached.
+	 *
+	 * 	@param	<T>			the target type
+	 * 	@param	parser			the parser to be used
+	 * 	@return				the first argument which can be parsed by 'parser'
+	 * 	@throws	com.github.sahasatvik.cli.NoRemainingArgumentsException	thrown if no argument is found
+	 * 	@throws	com.github.sahasatvik.cli.NoArgumentOfRequiredTypeFoundException	thrown if no parsable arguments are left
+	 * 	@see	com.github.sahasatvik.cli.Parser#tryParse(String)
+	 * 	@since	0.3.0
+	 */
+
+	public <T> T next (Parser<T> parser) throws NoRemainingArgumentsException, NoArgumentOfRequiredTypeFoundException {
+		if (!hasMoreArgs()) {
+			throw new NoRemainingArgumentsException();
+		}
+		T value = next(parser, argCount());
+		if (value == null) {
+			throw new NoArgumentOfRequiredTypeFoundException(parser);	
+		}
+		return value;
+	}
+
+	/** Pops and returns the first of the first argCount arguments which parser can parse, or null if there is none */
+	private <T> T next (Parser<T> parser, int argCount) {
+		ListItem<Argument> l = arguments.first();
+		for (int i = 0; i < argCount; i++, l = l.right) {
+			T value = parser.tryParse(l.item.rawValue);
+			if (value != null) {
+				arguments.remove(l);
+				return value;
+			}
+		}
+		return null;
+	}
+
+
+
+	/** The queue of arguments, which counts and removes its items without walking it, unlike a plain Queue */
+	static final class Arguments extends Queue<Argument> {
+
+		int count () {
+			return size;
+		}
+
+		/** Returns the ListItem of the first argument, or the tail if there are none */
+		ListItem<Argument> first () {
+			return head.right;
+		}
+
+		void remove (ListItem<Argument> l) {
+			unlink(l);
+		}
+	}
+} 
@@ -50,38 +50,73 @@ public interface Parser<T> {
 	
 	
 	
+	/**
+	 * This method parses a String like {@link #parse(String)}, but returns null instead of throwing
+	 * an Exception if the String cannot be parsed. It is used when searching for an argument which can
+	 * be parsed, where most arguments are expected to fail. By default, it catches any Exception thrown
+	 * by {@code parse(String)} : implementing classes which can detect invalid Strings cheaply should 
+	 * override it, since creating an Exception is far more expensive than parsing. Note that a Parser 
+	 * whose {@code parse(String)} returns null is treated as having failed.
+	 *
+	 * 	@param	s		the string to be parsed
+	 * 	@return			an object of the same type as the type parameter, or null if 's' cannot be parsed
+	 * 	@since	0.3.0
+	 */
+
+	public default T tryParse (String s) {
+		try {
+			return parse(s);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+	
+	
+	
 	/**
 	 * This method accepts a String to parse and the class of the target type. It returns
-	 * the parsed String in the form of T.
+	 * the parsed String in the form of T, using the Parser registered for the class in the 
+	 * default ParserRegistry.
 	 *
 	 * 	@param	<T>		the target type
 	 * 	@param	rawValue	the string to be parsed
 	 * 	@param	clazz		the class of the target type - use T.class
 	 * 	@return			the converted string in the form of T
-	 * 	@throws	NumberFormatException	thrown if the target class is not recognized
+	 * 	@throws	NumberFormatException	thrown if the string cannot be parsed, or the target class is not recognized
+	 * 	@see	com.github.sahasatvik.cli.ParserRegistry#lookup(Class)
 	 * 	@since	0.1.0
 	 */
 
 	public static <T> T parse (String rawValue, Class<T> clazz) throws NumberFormatException {
-		Object t;
-		switch (clazz.getName()) {
-			case "java.lang.Character":	if (rawValue.length() == 1) {
-								t = Character.valueOf(rawValue.charAt(0));
-							} else {
-								throw new NumberFormatException();
-							}
-							break;
-			case "java.lang.String"	:	t = String.valueOf(rawValue);	break;
-			case "java.lang.Byte"	:	t = Byte.valueOf(rawValue);	break;
-			case "java.lang.Short"	:	t = Short.valueOf(rawValue);	break;
-			case "java.lang.Integer":	t = Integer.valueOf(rawValue);	break;
-			case "java.lang.Long"	:	t = Long.valueOf(rawValue);	break;
-			case "java.lang.Float"	:	t = Float.valueOf(rawValue);	break;
-			case "java.lang.Double" :	t = Double.valueOf(rawValue);	break;
-			default 		:	throw new NumberFormatException();		
+		Parser<T> parser = ParserRegistry.getDefault().lookup(clazz);
+		if (parser == null) {
+			throw new NumberFormatException("No Parser registered for " + clazz.getName() + " !");
 		}
-		@SuppressWarnings("unchecked")
-		T temp = (T) t;
-		return temp;
+		try {
+			return parser.parse(rawValue);
+		} catch (NumberFormatException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new NumberFormatException(e.getMessage());
+		}
+	}
+	
+	
+	
+	/**
+	 * This method accepts a String to parse and the class of the target type, like 
+	 * {@link #parse(String, Class)}, but returns null instead of throwing an Exception if the String 
+	 * cannot be parsed, or the target class is not recognized.
+	 *
+	 * 	@param	<T>		the target type
+	 * 	@param	rawValue	the string to be parsed
+	 * 	@param	clazz		the class of the target type - use T.class
+	 * 	@return			the converted string in the form of T, or null if it cannot be converted
+	 * 	@since	0.3.0
+	 */
+
+	public static <T> T tryParse (String rawValue, Class<T> clazz) {
+		Parser<T> parser = ParserRegistry.getDefault().lookup(clazz);
+		return (parser == null)? null : parser.tryParse(rawValue);
 	}
 } 
@@ -0,0 +1,204 @@
+package com.github.sahasatvik.cli;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * This class maps classes to the Parsers which convert Strings into them. The Parser for a class is
+ * looked up once, eg. when {@link Option#setValueType(Class)} is called, after which each conversion 
+ * is a direct call to it.
+ * <p>
+ * Every ParserRegistry starts out with Parsers for the following classes :
+ * <ul>
+ * 	<li>String and Character</li>
+ * 	<li>Boolean, Byte, Short, Integer, Long, Float and Double, as well as their primitive types</li>
+ * 	<li>BigDecimal, Path, Duration and Instant</li>
+ * 	<li>any enum, whose constants are matched by their exact names, or their names in lower case</li>
+ * </ul>
+ * The Parsers for numbers, Booleans and enums check their input without throwing any Exceptions from 
+ * {@link Parser#tryParse(String)}. Parsers for other classes can be added with 
+ * {@link #register(Class, Parser)}. For example :
+ * <pre>{@code
+ *	ParserRegistry.getDefault().register(URI.class, URI::new);
+ *	Option<URI> url = new Option<URI>("-u", "--url").canHaveValue(true)
+ *							.setValueType(URI.class);
+ * }</pre>
+ * The default ParserRegistry is used by Option and Parser, and is shared by the whole program.
+ * A separate ParserRegistry can be created and passed to {@link Option#setValueType(Class, ParserRegistry)}
+ * instead. A ParserRegistry may be used by several threads at once.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.Parser
+ * 	@since		0.3.0
+ */
+
+public final class ParserRegistry {
+
+	private static final Map<Class<?>, Parser<?>> BUILT_IN = new HashMap<>();
+	private static final ParserRegistry DEFAULT;
+
+	static {
+		builtIn(String.class, (s) -> true, (s) -> s);
+		builtIn(Character.class, (s) -> (s.length() == 1), (s) -> (s.charAt(0)));
+		builtIn(Boolean.class, (s) -> (s.equalsIgnoreCase("true") || s.equalsIgnoreCase("false")), Boolean::valueOf);
+		builtIn(Byte.class, (s) -> (Conversions.isInteger(s, 0, s.length(), Byte.MIN_VALUE, Byte.MAX_VALUE)), Byte::valueOf);
+		builtIn(Short.class, (s) -> (Conversions.isInteger(s, 0, s.length(), Short.MIN_VALUE, Short.MAX_VALUE)), Short::valueOf);
+		builtIn(Integer.class, (s) -> (Conversions.isInteger(s, 0, s.length(), Integer.MIN_VALUE, Integer.MAX_VALUE)), Integer::valueOf);
+		builtIn(Long.class, (s) -> (Conversions.isInteger(s, 0, s.length(), Long.MIN_VALUE, Long.MAX_VALUE)), Long::valueOf);
+		builtIn(Float.class, (s) -> (Conversions.isDecimal(s) || Conversions.isHexadecimal(s)), Float::valueOf);
+		builtIn(Double.class, (s) -> (Conversions.isDecimal(s) || Conversions.isHexadecimal(s)), Double::valueOf);
+		builtIn(BigDecimal.class, Conversions::isBigDecimal, BigDecimal::new);
+
+		BUILT_IN.put(char.class, BUILT_IN.get(Character.class));
+		BUILT_IN.put(boolean.class, BUILT_IN.get(Boolean.class));
+		BUILT_IN.put(byte.class, BUILT_IN.get(Byte.class));
+		BUILT_IN.put(short.class, BUILT_IN.get(Short.class));
+		BUILT_IN.put(int.class, BUILT_IN.get(Integer.class));
+		BUILT_IN.put(long.class, BUILT_IN.get(Long.class));
+		BUILT_IN.put(float.class, BUILT_IN.get(Float.class));
+		BUILT_IN.put(double.class, BUILT_IN.get(Double.class));
+
+		/* The formats of these are defined by the Java API, so their Parsers catch its Exceptions */
+		BUILT_IN.put(Path.class, (Parser<Path>) Path::of);
+		BUILT_IN.put(Duration.class, (Parser<Duration>) Duration::parse);
+		BUILT_IN.put(Instant.class, (Parser<Instant>) Instant::parse);
+
+		DEFAULT = new ParserRegistry();
+	}
+
+	private final ConcurrentHashMap<Class<?>, Parser<?>> parsers;
+
+	/**
+	 * This constructor creates a ParserRegistry holding only the built-in Parsers.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	public ParserRegistry () {
+		parsers = new ConcurrentHashMap<>(BUILT_IN);
+	}
+
+
+
+	/**
+	 * This method returns the ParserRegistry used by Option and Parser, unless another is specified.
+	 *
+	 * 	@return				the default ParserRegistry
+	 * 	@since	0.3.0
+	 */
+
+	public static ParserRegistry getDefault () {
+		return DEFAULT;
+	}
+
+
+
+	/**
+	 * This method registers the Parser to be used for a class, replacing any Parser previously 
+	 * registered for it. Options whose value type has already been set keep their old Parser.
+	 *
+	 * 	@param	<T>			the target type
+	 * 	@param	clazz			the class of the target type
+	 * 	@param	parser			the Parser converting Strings into 'clazz'
+	 * 	@return				this ParserRegistry
+	 * 	@since	0.3.0
+	 */
+
+	public <T> ParserRegistry register (Class<T> clazz, Parser<T> parser) {
+		if (clazz == null || parser == null) {
+			throw new NullPointerException();
+		}
+		parsers.put(clazz, parser);
+		return this;
+	}
+
+
+
+	/**
+	 * This method returns the Parser registered for a class. Parsers for enums are created the first
+	 * time they are looked up.
+	 *
+	 * 	@param	<T>			the target type
+	 * 	@param	clazz			the class of the target type
+	 * 	@return				the Parser for 'clazz', or null if there is none
+	 * 	@since	0.3.0
+	 */
+
+	public <T> Parser<T> lookup (Class<T> clazz) {
+		Parser<?> parser = parsers.get(clazz);
+		if (parser == null && clazz.isEnum()) {
+			parser = parsers.computeIfAbsent(clazz, (c) -> (enumParser(c)));
+		}
+		@SuppressWarnings("unchecked")
+		Parser<T> temp = (Parser<T>) parser;
+		return temp;
+	}
+
+
+
+	/**
+	 * This method returns whether a Parser is registered for a class.
+	 *
+	 * 	@param	clazz			the class to be checked
+	 * 	@return				true if Strings can be converted into 'clazz'
+	 * 	@since	0.3.0
+	 */
+
+	public boolean supports (Class<?> clazz) {
+		return lookup(clazz) != null;
+	}
+
+	private static <T> void builtIn (Class<T> clazz, Predicate<String> check, Function<String, T> convert) {
+		BUILT_IN.put(clazz, new Checked<T>(clazz, check, convert));
+	}
+
+	private static <E extends Enum<E>> Parser<?> enumParser (Class<?> clazz) {
+		@SuppressWarnings("unchecked")
+		Class<E> enumClass = (Class<E>) clazz;
+		HashMap<String, E> names = new HashMap<>();
+		E[] constants = enumClass.getEnumConstants();
+		for (E e : constants) {
+			names.put(e.name(), e);
+		}
+		for (E e : constants) {
+			names.putIfAbsent(e.name().toLowerCase(Locale.ROOT), e);
+		}
+		return new Checked<E>(enumClass, names::containsKey, names::get);
+	}
+
+	/** A Parser which checks a String before converting it, so that it never needs to catch Exceptions */
+	private static final class Checked<T> implements Parser<T> {
+
+		private final Class<T> clazz;
+		private final Predicate<String> check;
+		private final Function<String, T> convert;
+
+		Checked (Class<T> clazz, Predicate<String> check, Function<String, T> convert) {
+			this.clazz = clazz;
+			this.check = check;
+			this.convert = convert;
+		}
+
+		@Override
+		public T parse (String s) {
+			if (!check.test(s)) {
+				throw new NumberFormatException("Cannot parse " + s + " as " + clazz.getSimpleName() + " !");
+			}
+			return convert.apply(s);
+		}
+
+		@Override
+		public T tryParse (String s) {
+			return check.test(s)? convert.apply(s) : null;
+		}
+	}
+} 
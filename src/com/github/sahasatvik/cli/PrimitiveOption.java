@@ -0,0 +1,122 @@
+package com.github.sahasatvik.cli;
+
+/**
+ * This class is the base of Options whose values are primitives. Their values are parsed straight
+ * from the characters of an argument after the '=' sign, without creating a substring or boxing
+ * the result, and are stored as the raw bits of a long. Subclasses decide how the bits are parsed,
+ * and how they are boxed when the value is requested as an Object.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@param	<T>	the boxed type of the primitive value
+ * 	@see		com.github.sahasatvik.cli.IntOption
+ * 	@see		com.github.sahasatvik.cli.LongOption
+ * 	@see		com.github.sahasatvik.cli.DoubleOption
+ * 	@since		0.3.0
+ */
+
+abstract class PrimitiveOption<T> extends Option<T> {
+
+	/** Parses the characters of an argument into the bits of a primitive value */
+	@FunctionalInterface
+	interface Bits {
+		long parse (String s, int start, int end) throws NumberFormatException;
+	}
+
+	/** Thrown by Bits when a value is well formed, but lies outside the range of the Option */
+	static final class OutOfRangeException extends NumberFormatException {
+
+		OutOfRangeException (Object min, Object max) {
+			super(min + " to " + max);
+		}
+	}
+
+	private long bits;
+	private boolean assigned;
+
+	PrimitiveOption (String shortForm, String longForm) throws IncorrectOptionSyntaxException {
+		super(shortForm, longForm);
+		canHaveValue(true);
+	}
+
+	/** Returns a parser for the bits of values of this Option, as currently configured */
+	abstract Bits bits ();
+
+	/** Boxes the bits of a value */
+	abstract T box (long bits);
+
+	/** Unboxes a value into its bits */
+	abstract long unbox (T value);
+
+	void setBits (long bits) {
+		this.bits = bits;
+		this.assigned = true;
+	}
+
+	boolean hasBits () {
+		return assigned;
+	}
+
+	/** Returns the bits of the value, whether or not one has been assigned */
+	long rawBits () {
+		return bits;
+	}
+
+	long getBits () throws MissingOptionValueException {
+		if (!assigned) {
+			throw new MissingOptionValueException(this);
+		}
+		return bits;
+	}
+
+	@Override
+	public void setValue (T value) {
+		if (value == null) {
+			assigned = false;
+		} else {
+			setBits(unbox(value));
+		}
+	}
+
+	@Override
+	public void parseValue (String rawValue) throws CannotParseValueOfOptionException {
+		if (rawValue.length() > 0) {
+			try {
+				setBits(bits().parse(rawValue, 0, rawValue.length()));
+			} catch (OutOfRangeException e) {
+				throw new OptionValueOutOfRangeException(this, rawValue, e.getMessage());
+			} catch (NumberFormatException e) {
+				throw new CannotParseValueOfOptionException(this, rawValue);
+			}
+		}
+	}
+
+	/**
+	 * This method always fails, since the values of the Option are parsed straight into 
+	 * primitives, and never by a Parser looked up for a value type.
+	 *
+	 * 	@throws	com.github.sahasatvik.cli.UnknownOptionValueTypeException	always
+	 */
+
+	@Override
+	public Option<T> setValueType (Class<T> valueTypeClass, ParserRegistry registry) throws UnknownOptionValueTypeException {
+		throw new UnknownOptionValueTypeException(this, valueTypeClass);
+	}
+
+	/**
+	 * This method always fails, since the values of the Option are parsed straight into 
+	 * primitives, and never by a Parser.
+	 *
+	 * 	@throws	com.github.sahasatvik.cli.CannotParseValueOfOptionException	always
+	 */
+
+	@Override
+	public Option<T> useParser (Parser<T> parser) throws CannotParseValueOfOptionException {
+		throw new CannotParseValueOfOptionException(this, parser);
+	}
+
+	@Override
+	public T getValue () throws MissingOptionValueException {
+		return box(getBits());
+	}
+} 
@@ -0,0 +1,146 @@
+package com.github.sahasatvik.cli;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * This class parses lines of text typed into an interactive console, or received by a long-running
+ * program, against a single CommandSpec. Each line is split into arguments as a shell would split
+ * it (see {@link #split(CharSequence)}), and parsed as by {@link CommandSpec#parse(String[])}, so
+ * every argument after '--' is an argument, even if it starts with '-'.
+ * <p>
+ * Unlike creating an ArgHandler for each line, a Session reuses its ParseResult and its buffers :
+ * each call to {@link #parse(CharSequence)} clears and refills the same ParseResult, so the result 
+ * of a line must be used before the next line is parsed. A Session is not synchronized, and is 
+ * meant to be used by one thread, eg. the one reading the console. For example :
+ * <pre>{@code
+ *	Session session = new Session(new CommandSpec(verbose, jobs));
+ *	String line;
+ *	while ((line = console.readLine()) != null) {
+ *		try {
+ *			ParseResult result = session.parse(line);
+ *			run(result.next(), result.getState(verbose));
+ *		} catch (ArgHandlerException e) {
+ *			console.println(e.getMessage());
+ *		}
+ *	}
+ * }</pre>
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.CommandSpec
+ * 	@since		0.3.0
+ */
+
+public final class Session {
+
+	private final CommandSpec spec;
+	private final ParseResult result;
+	private final Tokenizer tokenizer = new Tokenizer();
+	private final LineSource source = new LineSource();
+
+	/**
+	 * This constructor creates a Session parsing lines against the CommandSpec passed to it.
+	 *
+	 * 	@param	spec			the CommandSpec used to parse each line
+	 * 	@since	0.3.0
+	 */
+
+	public Session (CommandSpec spec) {
+		this.spec = spec;
+		this.result = spec.newResult();
+	}
+
+
+
+	/**
+	 * This method splits a line into arguments, and parses them. The ParseResult returned is the same
+	 * for every line, and is cleared before each line is parsed. If an Exception is thrown, it holds
+	 * the Options and arguments parsed before the error.
+	 *
+	 * 	@param	line			the line to be parsed
+	 * 	@return				the result of parsing the line
+	 * 	@throws	com.github.sahasatvik.cli.OptionException			thrown if an invalid Option is found, or its value cannot be parsed
+	 * 	@throws	com.github.sahasatvik.cli.MalformedArgumentException	thrown if the line cannot be split, eg. because a quote is never closed
+	 * 	@since	0.3.0
+	 */
+
+	public ParseResult parse (CharSequence line) throws OptionException, MalformedArgumentException {
+		result.reset();
+		source.reset(line);
+		boolean options = true;
+		String s;
+		while ((s = next()) != null) {
+			if (options && s.equals("--")) {
+				options = false;
+			} else if (!options || !spec.parseOption(s, result)) {
+				result.arguments.push(new Argument(s));
+			}
+		}
+		return result;
+	}
+
+
+
+	/**
+	 * This method returns the ParseResult holding the result of the last line parsed.
+	 *
+	 * 	@return				the result of the last line
+	 * 	@since	0.3.0
+	 */
+
+	public ParseResult getResult () {
+		return result;
+	}
+
+
+
+	/**
+	 * This method splits a line into arguments, in the way a shell would. Arguments are separated by
+	 * whitespace. Text between single quotes is taken literally ; between double quotes, a backslash 
+	 * escapes a following double quote or backslash ; elsewhere, a backslash escapes any following 
+	 * character. For example, {@code copy "My Files" it\'s} is split into {@code copy}, {@code My Files}
+	 * and {@code it's}.
+	 *
+	 * 	@param	line			the line to be split
+	 * 	@return				the arguments in the line
+	 * 	@throws	com.github.sahasatvik.cli.MalformedArgumentException	thrown if a quote is never closed, or the line ends with a backslash
+	 * 	@since	0.3.0
+	 */
+
+	public static String[] split (CharSequence line) throws MalformedArgumentException {
+		Session s = new Session(new CommandSpec());
+		s.source.reset(line);
+		ArrayList<String> args = new ArrayList<>();
+		String arg;
+		while ((arg = s.next()) != null) {
+			args.add(arg);
+		}
+		return args.toArray(new String[0]);
+	}
+
+	private String next () throws MalformedArgumentException {
+		try {
+			return tokenizer.next(source);
+		} catch (IOException e) {
+			throw new MalformedArgumentException(e.getMessage());
+		}
+	}
+
+	/** Reads the characters of a line, without copying it */
+	private static final class LineSource implements Tokenizer.Source {
+
+		private CharSequence line;
+		private int index;
+
+		void reset (CharSequence line) {
+			this.line = line;
+			this.index = 0;
+		}
+
+		@Override
+		public int read () {
+			return (index < line.length())? line.charAt(index++) : -1;
+		}
+	}
+} 
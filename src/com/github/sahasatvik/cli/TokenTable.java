@@ -0,0 +1,195 @@
+package com.github.sahasatvik.cli;
+
+import com.github.sahasatvik.struct.*;
+
+/**
+ * This class classifies an array of arguments in a single pass, recording one row of ints per
+ * token : its kind, the argument it came from, the position of its short form or the end of its
+ * long form there, the slot of its Option, and the offset of its value. Each short option in a 
+ * group such as '-abc' is a token of its own. Nothing is copied out of the arguments : values are
+ * read in place, and are only exposed as CharSequence views over the arguments they belong to.
+ * <p>
+ * A lone '-' is an argument, as is every argument after '--', even if it starts with '-'.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.CommandSpec
+ * 	@since		0.3.0
+ */
+
+final class TokenTable {
+
+	static final int ARGUMENT = 0;
+	static final int LONG = 1;
+	static final int SHORT = 2;
+	static final int END = 3;
+
+	private static final int KIND = 0;
+	private static final int ARG = 1;
+	private static final int POSITION = 2;
+	private static final int SLOT = 3;
+	private static final int VALUE = 4;
+	private static final int STRIDE = 5;
+
+	private final String[] args;
+	private int[] table;
+	private int size;
+
+	/** Classifies args, leaving the slots at -1 until {@link #resolve(CommandSpec)} is called */
+	TokenTable (String[] args) {
+		this.args = args;
+		this.table = new int[STRIDE * Math.max(args.length, 1)];
+		boolean options = true;
+		for (int a = 0; a < args.length; a++) {
+			String s = args[a];
+			int n = s.length();
+			if (!options || n < 2 || s.charAt(0) != '-') {
+				add(ARGUMENT, a, 0, -1);
+			} else if (n == 2 && s.charAt(1) == '-') {
+				add(END, a, 0, -1);
+				options = false;
+			} else if (s.charAt(1) == '-') {
+				int eq = s.indexOf('=', 2);
+				add(LONG, a, (eq == -1)? n : eq, (eq == -1)? -1 : eq + 1);
+			} else {
+				for (int i = 1; i < n; i++) {
+					if ((i + 1) < n && s.charAt(i + 1) == '=') {
+						add(SHORT, a, i, i + 2);
+						break;
+					}
+					add(SHORT, a, i, -1);
+				}
+			}
+		}
+	}
+
+	private void add (int kind, int arg, int position, int value) {
+		if (size * STRIDE == table.length) {
+			int[] t = new int[table.length * 2];
+			System.arraycopy(table, 0, t, 0, table.length);
+			table = t;
+		}
+		int row = size * STRIDE;
+		table[row + KIND] = kind;
+		table[row + ARG] = arg;
+		table[row + POSITION] = position;
+		table[row + SLOT] = -1;
+		table[row + VALUE] = (value == args[arg].length())? -1 : value;
+		size++;
+	}
+
+	/** Resolves the slots of all options against spec, replacing those resolved earlier */
+	void resolve (CommandSpec spec) throws OptionException {
+		for (int t = 0; t < size; t++) {
+			int row = t * STRIDE;
+			String s = args[table[row + ARG]];
+			int slot;
+			if (table[row + KIND] == LONG) {
+				slot = spec.resolve(s, table[row + POSITION]);
+				if (slot == -1) {
+					throw new InvalidOptionException("Option " + s + " not valid !");
+				}
+			} else if (table[row + KIND] == SHORT) {
+				char c = s.charAt(table[row + POSITION]);
+				slot = spec.resolve(c);
+				if (slot == -1) {
+					throw new InvalidOptionException("Option -" + c + " not valid !");
+				}
+			} else {
+				continue;
+			}
+			table[row + SLOT] = slot;
+		}
+	}
+
+
+
+	int size () {
+		return size;
+	}
+
+	int kind (int token) {
+		return table[token * STRIDE + KIND];
+	}
+
+	int slot (int token) {
+		return table[token * STRIDE + SLOT];
+	}
+
+	/** Returns the argument the token came from */
+	String arg (int token) {
+		return args[table[token * STRIDE + ARG]];
+	}
+
+	/** Returns the offset of the value of the token in its argument, or -1 if it has no value */
+	int valueStart (int token) {
+		return table[token * STRIDE + VALUE];
+	}
+
+	/** Returns a view of the value of the token, or null if it has no value */
+	CharSequence value (int token) {
+		int start = valueStart(token);
+		return (start == -1)? null : new View(arg(token), start, arg(token).length());
+	}
+
+	/** Returns the last token assigning a value to the slot, or -1 */
+	int lastValue (int slot) {
+		for (int t = size - 1; t >= 0; t--) {
+			if (slot(t) == slot && valueStart(t) != -1) {
+				return t;
+			}
+		}
+		return -1;
+	}
+
+	/** Pushes the arguments onto the queue, in order */
+	void pushArguments (Queue<Argument> arguments) {
+		for (int t = 0; t < size; t++) {
+			if (kind(t) == ARGUMENT) {
+				arguments.push(new Argument(arg(t)));
+			}
+		}
+	}
+
+
+
+	/** A view of the characters of a String between two offsets, which does not copy them */
+	private static final class View implements CharSequence {
+
+		private final String s;
+		private final int start;
+		private final int end;
+
+		View (String s, int start, int end) {
+			this.s = s;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public int length () {
+			return end - start;
+		}
+
+		@Override
+		public char charAt (int index) {
+			if (index < 0 || index >= length()) {
+				throw new IndexOutOfBoundsException(index);
+			}
+			return s.charAt(start + index);
+		}
+
+		@Override
+		public CharSequence subSequence (int from, int to) {
+			if (from < 0 || to > length() || from > to) {
+				throw new IndexOutOfBoundsException(from);
+			}
+			return new View(s, start + from, start + to);
+		}
+
+		@Override
+		public String toString () {
+			return s.substring(start, end);
+		}
+	}
+}
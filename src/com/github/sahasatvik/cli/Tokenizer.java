@@ -0,0 +1,74 @@
+
+package com.github.sahasatvik.cli;
+
+import java.io.IOException;
+
+/**
+ * This class splits text into arguments, in the way a shell would. Arguments are separated by
+ * whitespace. Text between single quotes is taken literally ; between double quotes, a backslash 
+ * escapes a following double quote or backslash ; elsewhere, a backslash escapes any following 
+ * character. Quotes may appear in the middle of an argument, eg. {@code --name="A B"} is read 
+ * as the single argument {@code --name=A B}.
+ * <p>
+ * The characters are pulled one at a time from a {@link Source}, so arbitrarily long text is
+ * tokenized without being held in memory. A Tokenizer reuses its buffer between arguments.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@since		0.3.0
+ */
+
+final class Tokenizer {
+
+	/** A source of characters, which returns -1 once there are none left */
+	interface Source {
+		int read () throws IOException;
+	}
+
+	private final StringBuilder token = new StringBuilder();
+
+	/** Returns the next argument from the source, or null if only whitespace is left */
+	String next (Source in) throws IOException, MalformedArgumentException {
+		int c = in.read();
+		while (c != -1 && Character.isWhitespace(c)) {
+			c = in.read();
+		}
+		if (c == -1) {
+			return null;
+		}
+		token.setLength(0);
+		while (c != -1 && !Character.isWhitespace(c)) {
+			if (c == '\'') {
+				while ((c = in.read()) != '\'') {
+					if (c == -1) {
+						throw new MalformedArgumentException("Missing closing ' after " + token + " !");
+					}
+					token.append((char) c);
+				}
+			} else if (c == '"') {
+				while ((c = in.read()) != '"') {
+					if (c == '\\') {
+						c = in.read();
+						if (c != '"' && c != '\\' && c != -1) {
+							token.append('\\');
+						}
+					}
+					if (c == -1) {
+						throw new MalformedArgumentException("Missing closing \" after " + token + " !");
+					}
+					token.append((char) c);
+				}
+			} else if (c == '\\') {
+				c = in.read();
+				if (c == -1) {
+					throw new MalformedArgumentException("Nothing to escape after " + token + "\\ !");
+				}
+				token.append((char) c);
+			} else {
+				token.append((char) c);
+			}
+			c = in.read();
+		}
+		return token.toString();
+	}
+} 
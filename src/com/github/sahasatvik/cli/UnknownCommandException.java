@@ -0,0 +1,44 @@
+package com.github.sahasatvik.cli;
+
+/**
+ * An UnknownCommandException describes the nature of an error on dispatching subcommands with a 
+ * CommandSet. This Exception is thrown when the name of the subcommand given in the arguments has
+ * not been added to the CommandSet.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.CommandSet
+ * 	@see		com.github.sahasatvik.cli.ArgumentException
+ * 	@since		0.3.0
+ * 
+ */
+
+public class UnknownCommandException extends ArgumentException {
+	
+	private final String name;
+
+	/**
+	 * Constructor of UnknownCommandException. 
+	 *
+	 * 	@param	name		the unknown name of the subcommand
+	 * 	@since	0.3.0
+	 */
+
+	public UnknownCommandException (String name) {
+		super("Unknown command " + name + " !");
+		this.name = name;
+	}
+
+
+
+	/**
+	 * This method returns the unknown name of the subcommand.
+	 *
+	 * 	@return			the unknown name
+	 * 	@since	0.3.0
+	 */
+
+	public String getName () {
+		return name;
+	}
+}
@@ -0,0 +1,62 @@
+package com.github.sahasatvik.cli.gen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation marks a field, or a record component, as holding the value of a command line 
+ * Option. A boolean field holds the state of an Option which cannot carry a value, while a field
+ * of any other supported type holds the value of an Option which can. For example :
+ * <pre>{@code
+ *	class ServerArgs {
+ *		@Option(shortForm = "-v", longForm = "--verbose")
+ *		boolean verbose;
+ *		@Option(shortForm = "-p", longForm = "--port")
+ *		int port = 8080;
+ *	}
+ * }</pre>
+ * The supported types are String, the primitive types and their boxed types, enums, BigDecimal, 
+ * Path, Duration and Instant. This annotation is only read by the {@link ParserProcessor} while 
+ * compiling, and is not retained in class files.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.gen.ParserProcessor
+ * 	@see		com.github.sahasatvik.cli.Option
+ * 	@since		0.3.0
+ */
+
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Option {
+
+	/**
+	 * The short form of the Option, eg. '-v'.
+	 *
+	 * 	@return			the short form
+	 * 	@since	0.3.0
+	 */
+
+	String shortForm ();
+
+	/**
+	 * The long form of the Option, eg. '--verbose'.
+	 *
+	 * 	@return			the long form
+	 * 	@since	0.3.0
+	 */
+
+	String longForm ();
+
+	/**
+	 * The value given to the field if the Option is given no value. If empty, the field keeps its 
+	 * initial value, which is zero, false or null for a record component.
+	 *
+	 * 	@return			the default value, as it would appear in the arguments
+	 * 	@since	0.3.0
+	 */
+
+	String defaultValue () default "";
+}
@@ -0,0 +1,551 @@
+package com.github.sahasatvik.cli.gen;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * This annotation processor generates a parser for each class or record with fields annotated by
+ * {@link Option} or {@link Positional}. For a class {@code ServerArgs}, it generates a class
+ * {@code ServerArgsParser} in the same package, with a single method :
+ * <pre>{@code
+ *	public static ServerArgs parse (String ... args) throws ArgHandlerException
+ * }</pre>
+ * The generated method makes a single pass over the arguments, matching long forms with a
+ * {@code switch} over Strings and short forms with a {@code switch} over characters, and converts
+ * values by calling their conversion methods directly, eg. {@code Integer.parseInt(String)}, or a
+ * generated {@code switch} over the names of an enum's constants. It uses no reflection, so it
+ * needs no configuration to run in a native image, and loads no classes besides the annotated one
+ * and the Exceptions it throws.
+ * <p>
+ * Arguments are parsed as by an ArgHandler : Options are recognized by a leading '-', short forms
+ * may be grouped, eg. '-vq', and values follow a '=', eg. '--port=80'. A lone '-' is an argument,
+ * and so is every argument after '--', even if it starts with '-'. Invalid Options, and values
+ * which cannot be converted, throw the same Exceptions as an ArgHandler. Abbreviated long forms
+ * and argument files are not supported.
+ * <p>
+ * A class must have a constructor without parameters, and its annotated fields must not be private,
+ * final or static. The fields of a record are passed to its canonical constructor, and any which
+ * are not annotated are given zero, false or null.
+ * <p>
+ * The processor is registered as a service, so javac runs it whenever the library is on the class path.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.gen.Option
+ * 	@see		com.github.sahasatvik.cli.gen.Positional
+ * 	@since		0.3.0
+ */
+
+@SupportedAnnotationTypes({"com.github.sahasatvik.cli.gen.Option", "com.github.sahasatvik.cli.gen.Positional"})
+public final class ParserProcessor extends AbstractProcessor {
+
+	/** An annotated field, and how its value is parsed */
+	private static final class Field {
+		final VariableElement element;
+		final String name;
+		final TypeMirror type;
+		String shortForm;
+		String longForm;
+		String defaultValue;
+		int index = -2;
+
+		Field (VariableElement element) {
+			this.element = element;
+			this.name = element.getSimpleName().toString();
+			this.type = element.asType();
+		}
+
+		boolean isOption () {
+			return longForm != null;
+		}
+
+		boolean isFlag () {
+			return type.getKind() == TypeKind.BOOLEAN || type.toString().equals("java.lang.Boolean");
+		}
+	}
+
+	/** The prefix of the locals holding the components of a record, which no local of the parser starts with */
+	private static final String COMPONENT = "$f_";
+	/** The locals of the generated parse method */
+	private static final Set<String> LOCALS = Set.of("$s", "$v", "$name", "$value", "$eq", "$i", "$valued",
+		"$position", "$options", "$rest", "$result", "args", "e");
+
+	private boolean failed;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion () {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process (Set<? extends TypeElement> annotations, RoundEnvironment round) {
+		LinkedHashSet<TypeElement> types = new LinkedHashSet<>();
+		for (Element e : round.getElementsAnnotatedWith(Option.class)) {
+			if (e.getKind() == ElementKind.FIELD) {
+				types.add((TypeElement) e.getEnclosingElement());
+			}
+		}
+		for (Element e : round.getElementsAnnotatedWith(Positional.class)) {
+			if (e.getKind() == ElementKind.FIELD) {
+				types.add((TypeElement) e.getEnclosingElement());
+			}
+		}
+		for (TypeElement type : types) {
+			failed = false;
+			List<Field> fields = collect(type);
+			if (!failed) {
+				String code = generate(type, fields);
+				if (!failed) {
+					write(type, code);
+				}
+			}
+		}
+		return true;
+	}
+
+	/** Reads the annotated fields of the type, in order of declaration, and checks them */
+	private List<Field> collect (TypeElement type) {
+		boolean record = type.getKind() == ElementKind.RECORD;
+		if (!record && type.getKind() != ElementKind.CLASS) {
+			error(type, "Only classes and records can have generated parsers");
+		} else if (type.getModifiers().contains(Modifier.PRIVATE)) {
+			error(type, "A class with a generated parser cannot be private");
+		} else if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+			error(type, "A nested class with a generated parser must be static");
+		} else if (!record && !hasDefaultConstructor(type)) {
+			error(type, "A class with a generated parser needs a constructor without parameters");
+		}
+
+		List<Field> fields = new ArrayList<>();
+		for (VariableElement v : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			if (v.getModifiers().contains(Modifier.STATIC)) {
+				continue;
+			}
+			Field f = new Field(v);
+			Option option = v.getAnnotation(Option.class);
+			Positional positional = v.getAnnotation(Positional.class);
+			if (option != null && positional != null) {
+				error(v, "A field cannot be both an Option and a Positional argument");
+			} else if (option != null) {
+				f.shortForm = option.shortForm();
+				f.longForm = option.longForm();
+				f.defaultValue = option.defaultValue();
+			} else if (positional != null) {
+				f.index = positional.index();
+			}
+			if (option == null && positional == null && !record) {
+				continue;
+			}
+			if (!record && (option != null || positional != null)) {
+				Set<Modifier> m = v.getModifiers();
+				if (m.contains(Modifier.PRIVATE) || m.contains(Modifier.FINAL)) {
+					error(v, "An annotated field cannot be private or final");
+				}
+			}
+			fields.add(f);
+		}
+
+		Set<String> forms = new HashSet<>();
+		Set<Integer> indices = new HashSet<>();
+		Set<String> locals = new HashSet<>(LOCALS);
+		boolean rest = false;
+		for (Field f : fields) {
+			if (record && !locals.add(target(f, true))) {
+				error(f.element, "The component " + f.name + " cannot be held by a local of the generated parser");
+			}
+			if (f.isOption()) {
+				String s = f.shortForm;
+				String l = f.longForm;
+				if (s.length() != 2 || s.charAt(0) != '-' || s.charAt(1) == '-') {
+					error(f.element, "The shortForm of " + l + " must be a '-' followed by one other character");
+				} else if (l.length() < 3 || !l.startsWith("--") || l.indexOf('=') != -1) {
+					error(f.element, "The longForm of " + s + " must start with '--', and cannot contain '='");
+				} else if (!forms.add(s) || !forms.add(l)) {
+					error(f.element, "Options " + s + " and " + l + " must not share their forms with other Options");
+				} else if (f.isFlag() && !f.defaultValue.isEmpty()) {
+					error(f.element, "A boolean Option cannot have a default value");
+				} else if (!f.isFlag() && !isConvertible(f.type)) {
+					error(f.element, "Options of type " + f.type + " are not supported");
+				}
+			} else if (f.index == -1) {
+				String t = f.type.toString();
+				if (rest) {
+					error(f.element, "Only one field can hold the remaining arguments");
+				} else if (!t.equals("java.util.List<java.lang.String>") && !t.equals("java.lang.String[]")) {
+					error(f.element, "The remaining arguments must be held by a List<String> or a String[]");
+				}
+				rest = true;
+			} else if (f.index >= 0) {
+				if (!indices.add(f.index)) {
+					error(f.element, "Two fields hold the argument at index " + f.index);
+				} else if (!isConvertible(f.type)) {
+					error(f.element, "Arguments of type " + f.type + " are not supported");
+				}
+			} else if (f.index != -2) {
+				error(f.element, "The index of an argument cannot be negative");
+			}
+		}
+		return fields;
+	}
+
+	private boolean hasDefaultConstructor (TypeElement type) {
+		for (ExecutableElement c : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Returns true if convert() can produce an expression for the type */
+	private boolean isConvertible (TypeMirror type) {
+		switch (type.getKind()) {
+			case INT: case LONG: case SHORT: case BYTE:
+			case DOUBLE: case FLOAT: case CHAR:
+				return true;
+			case DECLARED:
+				Element e = ((DeclaredType) type).asElement();
+				if (e.getKind() == ElementKind.ENUM) {
+					return true;
+				}
+				switch (((TypeElement) e).getQualifiedName().toString()) {
+					case "java.lang.String": case "java.lang.Integer": case "java.lang.Long":
+					case "java.lang.Short": case "java.lang.Byte": case "java.lang.Double":
+					case "java.lang.Float": case "java.lang.Character": case "java.math.BigDecimal":
+					case "java.nio.file.Path": case "java.time.Duration": case "java.time.Instant":
+						return true;
+					default:
+						return false;
+				}
+			default:
+				return false;
+		}
+	}
+
+	/** Returns an expression converting the String v into the type, adding any helper methods it needs */
+	private String convert (TypeMirror type, String v, Map<String, String> helpers) {
+		switch (type.getKind()) {
+			case INT:	return "Integer.parseInt(" + v + ")";
+			case LONG:	return "Long.parseLong(" + v + ")";
+			case SHORT:	return "Short.parseShort(" + v + ")";
+			case BYTE:	return "Byte.parseByte(" + v + ")";
+			case DOUBLE:	return "Double.parseDouble(" + v + ")";
+			case FLOAT:	return "Float.parseFloat(" + v + ")";
+			case CHAR:	return charHelper(helpers) + "(" + v + ")";
+			default:
+		}
+		TypeElement e = (TypeElement) ((DeclaredType) type).asElement();
+		if (e.getKind() == ElementKind.ENUM) {
+			return enumHelper(e, helpers) + "(" + v + ")";
+		}
+		switch (e.getQualifiedName().toString()) {
+			case "java.lang.String":	return v;
+			case "java.lang.Integer":	return "Integer.valueOf(" + v + ")";
+			case "java.lang.Long":		return "Long.valueOf(" + v + ")";
+			case "java.lang.Short":		return "Short.valueOf(" + v + ")";
+			case "java.lang.Byte":		return "Byte.valueOf(" + v + ")";
+			case "java.lang.Double":	return "Double.valueOf(" + v + ")";
+			case "java.lang.Float":		return "Float.valueOf(" + v + ")";
+			case "java.lang.Character":	return charHelper(helpers) + "(" + v + ")";
+			case "java.math.BigDecimal":	return "new java.math.BigDecimal(" + v + ")";
+			case "java.nio.file.Path":	return "java.nio.file.Path.of(" + v + ")";
+			case "java.time.Duration":	return "java.time.Duration.parse(" + v + ")";
+			case "java.time.Instant":	return "java.time.Instant.parse(" + v + ")";
+			default:			throw new IllegalStateException(type.toString());
+		}
+	}
+
+	private String charHelper (Map<String, String> helpers) {
+		helpers.putIfAbsent("charOf",
+			"\tprivate static char charOf (String s) {\n" +
+			"\t\tif (s.length() != 1) {\n" +
+			"\t\t\tthrow new IllegalArgumentException(s);\n" +
+			"\t\t}\n" +
+			"\t\treturn s.charAt(0);\n" +
+			"\t}\n");
+		return "charOf";
+	}
+
+	/** Adds a method matching the exact and lower case names of the constants of an enum, as ParserRegistry does */
+	private String enumHelper (TypeElement e, Map<String, String> helpers) {
+		String type = e.getQualifiedName().toString();
+		String name = "to" + type.replace('.', '_');
+		if (helpers.containsKey(name)) {
+			return name;
+		}
+		Map<String, String> cases = new LinkedHashMap<>();
+		List<String> constants = new ArrayList<>();
+		for (Element c : e.getEnclosedElements()) {
+			if (c.getKind() == ElementKind.ENUM_CONSTANT) {
+				constants.add(c.getSimpleName().toString());
+			}
+		}
+		for (String c : constants) {
+			cases.put(c, c);
+		}
+		for (String c : constants) {
+			cases.putIfAbsent(c.toLowerCase(java.util.Locale.ROOT), c);
+		}
+		StringBuilder b = new StringBuilder();
+		b.append("\tprivate static ").append(type).append(" ").append(name).append(" (String s) {\n");
+		b.append("\t\tswitch (s) {\n");
+		for (Map.Entry<String, String> c : cases.entrySet()) {
+			b.append("\t\t\tcase ").append(literal(c.getKey())).append(":\n");
+			b.append("\t\t\t\treturn ").append(type).append(".").append(c.getValue()).append(";\n");
+		}
+		b.append("\t\t\tdefault:\n");
+		b.append("\t\t\t\tthrow new IllegalArgumentException(s);\n");
+		b.append("\t\t}\n");
+		b.append("\t}\n");
+		helpers.put(name, b.toString());
+		return name;
+	}
+
+	private String generate (TypeElement type, List<Field> fields) {
+		boolean record = type.getKind() == ElementKind.RECORD;
+		String pkg = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String typeName = type.getQualifiedName().toString();
+		String parserName = parserName(type);
+		Map<String, String> helpers = new LinkedHashMap<>();
+
+		List<Field> options = new ArrayList<>();
+		List<Field> positionals = new ArrayList<>();
+		Field rest = null;
+		for (Field f : fields) {
+			if (f.isOption()) {
+				options.add(f);
+			} else if (f.index >= 0) {
+				positionals.add(f);
+			} else if (f.index == -1) {
+				rest = f;
+			}
+		}
+
+		StringBuilder b = new StringBuilder();
+		if (!pkg.isEmpty()) {
+			b.append("package ").append(pkg).append(";\n\n");
+		}
+		b.append("import com.github.sahasatvik.cli.ArgHandlerException;\n");
+		b.append("import com.github.sahasatvik.cli.CannotParseValueOfOptionException;\n");
+		b.append("import com.github.sahasatvik.cli.InvalidOptionException;\n");
+		b.append("import com.github.sahasatvik.cli.MalformedArgumentException;\n\n");
+		b.append("/**\n");
+		b.append(" * This class parses command line arguments into a {@link ").append(typeName).append("}.\n");
+		b.append(" * It is generated by ParserProcessor, and should not be edited.\n");
+		b.append(" */\n\n");
+		b.append("@javax.annotation.processing.Generated(\"com.github.sahasatvik.cli.gen.ParserProcessor\")\n");
+		b.append("public final class ").append(parserName).append(" {\n\n");
+		b.append("\tprivate ").append(parserName).append(" () {\n\t}\n\n");
+		b.append("\t/**\n");
+		b.append("\t * This method parses an array of arguments into a new ").append(type.getSimpleName()).append(".\n");
+		b.append("\t *\n");
+		b.append("\t * \t@param\targs\t\t\tthe array of arguments to be parsed\n");
+		b.append("\t * \t@return\t\t\t\tthe parsed arguments\n");
+		b.append("\t * \t@throws\tcom.github.sahasatvik.cli.ArgHandlerException\tthrown if an invalid Option is found, or a value cannot be parsed\n");
+		b.append("\t */\n\n");
+		b.append("\tpublic static ").append(typeName).append(" parse (String ... args) throws ArgHandlerException {\n");
+
+		if (record) {
+			for (Field f : fields) {
+				b.append("\t\t").append(f.type).append(" ").append(target(f, true)).append(" = ").append(zero(f.type)).append(";\n");
+			}
+		} else {
+			b.append("\t\t").append(typeName).append(" $result = new ").append(typeName).append("();\n");
+		}
+		if (rest != null) {
+			b.append("\t\tjava.util.ArrayList<String> $rest = new java.util.ArrayList<String>();\n");
+		}
+		for (Field f : options) {
+			if (!f.defaultValue.isEmpty()) {
+				appendValue(b, "\t\t", f, record, literal(f.defaultValue), helpers);
+			}
+		}
+
+		b.append("\t\tint $position = 0;\n");
+		b.append("\t\tboolean $options = true;\n");
+		b.append("\t\tfor (String $s : args) {\n");
+		b.append("\t\t\tif ($options && $s.equals(\"--\")) {\n");
+		b.append("\t\t\t\t$options = false;\n");
+		b.append("\t\t\t\tcontinue;\n");
+		b.append("\t\t\t}\n");
+		b.append("\t\t\tif (!$options || $s.length() < 2 || $s.charAt(0) != '-') {\n");
+		if (!positionals.isEmpty()) {
+			b.append("\t\t\t\tswitch ($position++) {\n");
+			for (Field f : positionals) {
+				b.append("\t\t\t\t\tcase ").append(f.index).append(":\n");
+				b.append("\t\t\t\t\t\ttry {\n");
+				b.append("\t\t\t\t\t\t\t").append(target(f, record)).append(" = ").append(convert(f.type, "$s", helpers)).append(";\n");
+				b.append("\t\t\t\t\t\t} catch (RuntimeException e) {\n");
+				b.append("\t\t\t\t\t\t\tthrow new MalformedArgumentException(\"Argument \" + $s + \" cannot be parsed as ")
+					.append(f.type).append(" !\");\n");
+				b.append("\t\t\t\t\t\t}\n");
+				b.append("\t\t\t\t\t\tbreak;\n");
+			}
+			b.append("\t\t\t\t\tdefault:\n");
+			if (rest != null) {
+				b.append("\t\t\t\t\t\t$rest.add($s);\n");
+			}
+			b.append("\t\t\t\t}\n");
+		} else if (rest != null) {
+			b.append("\t\t\t\t$rest.add($s);\n");
+		}
+		b.append("\t\t\t\tcontinue;\n");
+		b.append("\t\t\t}\n");
+		if (options.isEmpty()) {
+			b.append("\t\t\tthrow new InvalidOptionException(\"Option \" + $s + \" not valid !\");\n");
+			b.append("\t\t}\n");
+			appendReturn(b, rest, fields, record, typeName, helpers);
+			return b.toString();
+		}
+		b.append("\t\t\tint $eq = $s.indexOf('=');\n");
+		b.append("\t\t\tString $value = ($eq == -1)? \"\" : $s.substring($eq + 1);\n");
+		b.append("\t\t\tif ($s.charAt(1) == '-') {\n");
+		b.append("\t\t\t\tString $name = ($eq == -1)? $s : $s.substring(0, $eq);\n");
+		b.append("\t\t\t\tString $v = $value;\n");
+		appendApply(b, "\t\t\t\t", options, record, "\"Option \" + $s + \" not valid !\"", helpers);
+		b.append("\t\t\t} else {\n");
+		b.append("\t\t\t\tfor (int $i = 1; $i < $s.length(); $i++) {\n");
+		b.append("\t\t\t\t\tboolean $valued = ($i + 1) < $s.length() && $s.charAt($i + 1) == '=';\n");
+		b.append("\t\t\t\t\tString $name;\n");
+		b.append("\t\t\t\t\tswitch ($s.charAt($i)) {\n");
+		for (Field f : options) {
+			b.append("\t\t\t\t\t\tcase ").append(processingEnv.getElementUtils().getConstantExpression(f.shortForm.charAt(1))).append(":\n");
+			b.append("\t\t\t\t\t\t\t$name = ").append(literal(f.longForm)).append(";\n");
+			b.append("\t\t\t\t\t\t\tbreak;\n");
+		}
+		b.append("\t\t\t\t\t\tdefault:\n");
+		b.append("\t\t\t\t\t\t\tthrow new InvalidOptionException(\"Option -\" + $s.charAt($i) + \" not valid !\");\n");
+		b.append("\t\t\t\t\t}\n");
+		b.append("\t\t\t\t\tString $v = $valued? $value : \"\";\n");
+		appendApply(b, "\t\t\t\t\t", options, record, "\"Option -\" + $s.charAt($i) + \" not valid !\"", helpers);
+		b.append("\t\t\t\t\tif ($valued) {\n");
+		b.append("\t\t\t\t\t\tbreak;\n");
+		b.append("\t\t\t\t\t}\n");
+		b.append("\t\t\t\t}\n");
+		b.append("\t\t\t}\n");
+		b.append("\t\t}\n");
+		appendReturn(b, rest, fields, record, typeName, helpers);
+		return b.toString();
+	}
+
+	/** Appends the statements returning the parsed fields, closes the parse method, and appends the helpers */
+	private void appendReturn (StringBuilder b, Field rest, List<Field> fields, boolean record, String typeName, Map<String, String> helpers) {
+		if (rest != null) {
+			String r = rest.type.toString().equals("java.lang.String[]")? "$rest.toArray(new String[0])" : "$rest";
+			b.append("\t\t").append(target(rest, record)).append(" = ").append(r).append(";\n");
+		}
+		if (record) {
+			b.append("\t\treturn new ").append(typeName).append("(");
+			for (int i = 0; i < fields.size(); i++) {
+				b.append((i == 0)? "" : ", ").append(target(fields.get(i), true));
+			}
+			b.append(");\n");
+		} else {
+			b.append("\t\treturn $result;\n");
+		}
+		b.append("\t}\n");
+		for (String helper : helpers.values()) {
+			b.append("\n").append(helper);
+		}
+		b.append("}\n");
+	}
+
+	/** Appends a switch over the long form in $name, applying the value in $v to the matching field */
+	private void appendApply (StringBuilder b, String indent, List<Field> options, boolean record, String invalid, Map<String, String> helpers) {
+		b.append(indent).append("switch ($name) {\n");
+		for (Field f : options) {
+			b.append(indent).append("\tcase ").append(literal(f.longForm)).append(":\n");
+			if (f.isFlag()) {
+				b.append(indent).append("\t\tif ($v.length() > 0) {\n");
+				b.append(indent).append("\t\t\tthrow new CannotParseValueOfOptionException(").append(literal(f.longForm)).append(");\n");
+				b.append(indent).append("\t\t}\n");
+				b.append(indent).append("\t\t").append(target(f, record)).append(" = true;\n");
+			} else {
+				b.append(indent).append("\t\tif ($v.length() > 0) {\n");
+				appendValue(b, indent + "\t\t\t", f, record, "$v", helpers);
+				b.append(indent).append("\t\t}\n");
+			}
+			b.append(indent).append("\t\tbreak;\n");
+		}
+		b.append(indent).append("\tdefault:\n");
+		b.append(indent).append("\t\tthrow new InvalidOptionException(").append(invalid).append(");\n");
+		b.append(indent).append("}\n");
+	}
+
+	/** Appends a statement converting the String expression v into the field */
+	private void appendValue (StringBuilder b, String indent, Field f, boolean record, String v, Map<String, String> helpers) {
+		b.append(indent).append("try {\n");
+		b.append(indent).append("\t").append(target(f, record)).append(" = ").append(convert(f.type, v, helpers)).append(";\n");
+		b.append(indent).append("} catch (RuntimeException e) {\n");
+		b.append(indent).append("\tthrow new CannotParseValueOfOptionException(").append(literal(f.longForm)).append(", ").append(v).append(");\n");
+		b.append(indent).append("}\n");
+	}
+
+	private String target (Field f, boolean record) {
+		return record? COMPONENT + f.name : "$result." + f.name;
+	}
+
+	private String zero (TypeMirror type) {
+		switch (type.getKind()) {
+			case BOOLEAN:	return "false";
+			case CHAR:	return "'\\0'";
+			case INT: case LONG: case SHORT: case BYTE:
+			case DOUBLE: case FLOAT:
+				return "0";
+			default:	return "null";
+		}
+	}
+
+	private String literal (String s) {
+		return processingEnv.getElementUtils().getConstantExpression(s);
+	}
+
+	/** Returns the name of the parser, which joins the names of nested classes with '_' */
+	private String parserName (TypeElement type) {
+		String name = type.getSimpleName().toString();
+		Element e = type.getEnclosingElement();
+		while (e instanceof TypeElement) {
+			name = e.getSimpleName() + "_" + name;
+			e = e.getEnclosingElement();
+		}
+		return name + "Parser";
+	}
+
+	private void write (TypeElement type, String code) {
+		String pkg = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String name = (pkg.isEmpty()? "" : pkg + ".") + parserName(type);
+		try (Writer w = processingEnv.getFiler().createSourceFile(name, type).openWriter()) {
+			w.write(code);
+		} catch (IOException e) {
+			error(type, "Cannot write " + name + " : " + e.getMessage());
+		}
+	}
+
+	private void error (Element e, String message) {
+		failed = true;
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, e);
+	}
+}
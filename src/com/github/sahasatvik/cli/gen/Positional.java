@@ -0,0 +1,41 @@
+package com.github.sahasatvik.cli.gen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation marks a field, or a record component, as holding a command line argument which 
+ * is not an Option. Arguments are numbered from 0, in the order they appear, ignoring Options. A 
+ * field may be of any type supported by {@link Option}. If no index is given, the field must be
+ * a {@code List<String>} or a {@code String[]}, and holds all the arguments not held by other fields.
+ * For example :
+ * <pre>{@code
+ *	record CopyArgs (
+ *		@Option(shortForm = "-f", longForm = "--force") boolean force,
+ *		@Positional(index = 0) Path target,
+ *		@Positional List<String> sources
+ *	) {}
+ * }</pre>
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.cli.gen.ParserProcessor
+ * 	@since		0.3.0
+ */
+
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Positional {
+
+	/**
+	 * The index of the argument among the arguments which are not Options, or -1 for all of the 
+	 * remaining arguments.
+	 *
+	 * 	@return			the index of the argument
+	 * 	@since	0.3.0
+	 */
+
+	int index () default -1;
+}
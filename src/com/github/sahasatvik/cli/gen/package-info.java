@@ -0,0 +1,12 @@
+/**
+ * This package contains an annotation processor, which generates a dedicated parser for each class
+ * or record whose fields are annotated with {@link com.github.sahasatvik.cli.gen.Option} or 
+ * {@link com.github.sahasatvik.cli.gen.Positional}. The generated parsers use no reflection, and
+ * are suited to short-lived programs and native images.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@since		0.3.0
+ */
+
+package com.github.sahasatvik.cli.gen;
@@ -0,0 +1,250 @@
+package com.github.sahasatvik.struct;
+
+/**
+ * This class describes a queue which may only hold a limited number of items, and a limited 
+ * total weight of items. The weight of each item is estimated by a {@link Weigher}, usually 
+ * as its approximate size in bytes, so that the heap used by the queue can be capped.
+ * <p>
+ * When an item does not fit, the {@link OverflowPolicy} decides whether it is rejected, whether
+ * the oldest items (those at index 0) are dropped to make space for it, or whether the pushing 
+ * thread waits for space. {@link #offer(Object)} never waits, and returns false instead. 
+ * An item heavier than the maximum weight is always rejected. The current weight, and the 
+ * number of rejected and dropped items, can be queried at any time.
+ * <p>
+ * All methods which read or modify the queue are synchronized, so a BoundedQueue can be 
+ * shared between producer and consumer threads.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@param	<T>	the type of items the queue holds
+ * 	@see	com.github.sahasatvik.struct.Queue
+ * 	@since		0.3.0
+ */
+
+public class BoundedQueue<T> extends Queue<T> {
+	
+	private final Budget<T> budget;
+
+
+
+	/**
+	 * This constructor creates a BoundedQueue which only limits the number of items it holds.
+	 *
+	 * 	@param	capacity	the maximum number of items
+	 * 	@param	policy		what to do when the queue is full
+	 * 	@since	0.3.0
+	 */
+
+	public BoundedQueue (int capacity, OverflowPolicy policy) {
+		this(capacity, Long.MAX_VALUE, (t) -> (0L), policy);
+	}
+
+
+
+	/**
+	 * This constructor creates a BoundedQueue which limits both the number of items it holds,
+	 * and their total weight.
+	 *
+	 * 	@param	capacity	the maximum number of items
+	 * 	@param	maxWeight	the maximum total weight of the items
+	 * 	@param	weigher		the weigher used to estimate the weight of each item
+	 * 	@param	policy		what to do when the queue is full
+	 * 	@since	0.3.0
+	 */
+
+	public BoundedQueue (int capacity, long maxWeight, Weigher<? super T> weigher, OverflowPolicy policy) {
+		super();
+		budget = new Budget<>(capacity, maxWeight, weigher, policy);
+	}
+
+
+
+	/**
+	 * This method pushes an item to the end of the queue. If the item does not fit, it is
+	 * handled according to the overflow policy : it may be rejected, older items may be
+	 * dropped, or this method may wait until there is space. Since this method cannot report
+	 * a rejection, a rejected item is simply not pushed, and is counted by
+	 * {@link #getRejections()}. This includes an item whose thread is interrupted while it waits
+	 * under the BLOCK policy; the interrupt status of the thread is then set again.
+	 *
+	 * 	@param	item		the item to be pushed
+	 * 	@since	0.3.0
+	 */
+
+	@Override
+	public synchronized void push (T item) {
+		ListItem<T> m = budget.admit(this, item, true);
+		if (m != null) {
+			linkAfter(tail.left, m);
+		}
+	}
+
+
+
+	/**
+	 * This method pushes an item to the end of the queue if it fits, dropping older items
+	 * first if the overflow policy allows. This method never waits.
+	 *
+	 * 	@param	item		the item to be pushed
+	 * 	@return			true if the item was pushed, false if it was rejected
+	 * 	@since	0.3.0
+	 */
+
+	@Override
+	public synchronized boolean offer (T item) {
+		ListItem<T> m = budget.admit(this, item, false);
+		if (m != null) {
+			linkAfter(tail.left, m);
+			return true;
+		}
+		return false;
+	}
+
+
+
+	/**
+	 * This method pushes an item at the index passed to it, subject to the overflow policy.
+	 * If the policy drops older items, the index refers to the queue after they are dropped.
+	 * As with {@link #push(Object)}, an item which is rejected is not pushed, and is only
+	 * counted by {@link #getRejections()}.
+	 *
+	 * 	@param	item		the item to be pushed to the index
+	 * 	@param	index		the index at which the item is to be placed
+	 * 	@throws	com.github.sahasatvik.struct.ListIndexOutOfBoundsException	thrown if the index is out of bounds
+	 * 	@since	0.3.0
+	 */
+
+	@Override
+	public synchronized void pushItemAt (T item, int index) throws ListIndexOutOfBoundsException {
+		if (index > size || index < 0) {
+			throw new ListIndexOutOfBoundsException(index);
+		}
+		ListItem<T> m = budget.admit(this, item, true);
+		if (m != null) {
+			linkAfter(getListItemAt(Math.min(index, size) - 1), m);
+		}
+	}
+
+	@Override
+	public synchronized T pop () throws ListException {
+		return super.pop();
+	}
+
+	@Override
+	public synchronized T poll () {
+		return super.poll();
+	}
+
+	@Override
+	public synchronized T peek () {
+		return super.peek();
+	}
+
+	@Override
+	public synchronized T popItemAt (int index) throws ListException {
+		return super.popItemAt(index);
+	}
+
+	@Override
+	public synchronized ListItem<T> getListItemAt (int index) throws ListIndexOutOfBoundsException {
+		return super.getListItemAt(index);
+	}
+
+	@Override
+	public synchronized T getItemAt (int index) throws ListIndexOutOfBoundsException {
+		return super.getItemAt(index);
+	}
+
+	@Override
+	public synchronized int getSize () {
+		return super.getSize();
+	}
+
+	@Override
+	public synchronized int indexOf (T item) {
+		return super.indexOf(item);
+	}
+
+	@Override
+	public synchronized boolean contains (T item) {
+		return super.contains(item);
+	}
+
+	@Override
+	public synchronized FrozenList<T> freeze () {
+		return super.freeze();
+	}
+
+	@Override
+	protected void unlink (ListItem<T> t) {
+		super.unlink(t);
+		budget.release(t);
+		notifyAll();
+	}
+
+
+
+	/**
+	 * This method returns the total weight of the items currently in the queue.
+	 *
+	 * 	@return			the current weight
+	 * 	@since	0.3.0
+	 */
+
+	public synchronized long getWeight () {
+		return budget.weight;
+	}
+
+
+
+	/**
+	 * This method returns the number of items which have been rejected so far.
+	 *
+	 * 	@return			the number of rejected items
+	 * 	@since	0.3.0
+	 */
+
+	public synchronized long getRejections () {
+		return budget.rejections;
+	}
+
+
+
+	/**
+	 * This method returns the number of older items which have been dropped so far, to make
+	 * space for newer ones.
+	 *
+	 * 	@return			the number of dropped items
+	 * 	@since	0.3.0
+	 */
+
+	public synchronized long getEvictions () {
+		return budget.evictions;
+	}
+
+
+
+	/**
+	 * This method returns the maximum number of items the queue can hold.
+	 *
+	 * 	@return			the capacity of the queue
+	 * 	@since	0.3.0
+	 */
+
+	public int getCapacity () {
+		return budget.capacity;
+	}
+
+
+
+	/**
+	 * This method returns the maximum total weight of items the queue can hold.
+	 *
+	 * 	@return			the maximum weight
+	 * 	@since	0.3.0
+	 */
+
+	public long getMaxWeight () {
+		return budget.maxWeight;
+	}
+} 
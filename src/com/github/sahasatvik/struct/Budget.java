@@ -0,0 +1,90 @@
+package com.github.sahasatvik.struct;
+
+/**
+ * This class holds the limits and the running totals of a bounded list, and decides
+ * whether new items can be admitted into it. It is shared by BoundedQueue and BoundedStack,
+ * and must only be used while holding the lock of the list it belongs to. Each item is weighed
+ * once, when it is admitted, and its weight is kept in its ListItem, so the running total stays
+ * correct even if the weight of an item changes while it is in the list.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@param	<T>	the type of items in the list
+ * 	@since		0.3.0
+ */
+
+final class Budget<T> {
+
+	/** A ListItem which carries the weight its item had when it was admitted */
+	private static final class WeighedItem<T> extends ListItem<T> {
+
+		final long weight;
+
+		WeighedItem (T item, long weight) {
+			super(item);
+			this.weight = weight;
+		}
+	}
+
+	final int capacity;
+	final long maxWeight;
+	final Weigher<? super T> weigher;
+	final OverflowPolicy policy;
+
+	/** The total weight of the items in the list */
+	long weight;
+	/** The number of items which have been rejected */
+	long rejections;
+	/** The number of items which have been dropped to make space for newer ones */
+	long evictions;
+
+	Budget (int capacity, long maxWeight, Weigher<? super T> weigher, OverflowPolicy policy) {
+		if (capacity < 0 || maxWeight < 0) {
+			throw new IllegalArgumentException("Capacity and maximum weight cannot be negative !");
+		}
+		this.capacity = capacity;
+		this.maxWeight = maxWeight;
+		this.weigher = weigher;
+		this.policy = policy;
+	}
+
+	/**
+	 * Returns a new ListItem holding the item, which the caller must link into the list, or null
+	 * if the item is rejected. Space is made for the item first if the policy allows. Items which
+	 * could never fit are always rejected.
+	 */
+
+	ListItem<T> admit (LinkedList<T> list, T item, boolean mayBlock) {
+		long w = weigher.weigh(item);
+		if (capacity == 0 || w < 0 || w > maxWeight) {
+			rejections++;
+			return null;
+		}
+		while (list.size >= capacity || weight + w > maxWeight) {
+			if (policy == OverflowPolicy.DROP_OLDEST && list.size > 0) {
+				list.unlink(list.head.right);
+				evictions++;
+			} else if (policy == OverflowPolicy.BLOCK && mayBlock) {
+				try {
+					list.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					rejections++;
+					return null;
+				}
+			} else {
+				rejections++;
+				return null;
+			}
+		}
+		weight += w;
+		return new WeighedItem<>(item, w);
+	}
+
+	/** Subtracts the weight of a ListItem which has been unlinked from the list */
+	void release (ListItem<T> t) {
+		if (t instanceof WeighedItem) {
+			weight -= ((WeighedItem<T>) t).weight;
+		}
+	}
+} 
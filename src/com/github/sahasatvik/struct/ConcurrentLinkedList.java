@@ -0,0 +1,264 @@
+
+package com.github.sahasatvik.struct;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class describes a linked list which can be read and modified by many threads at once.
+ * Instead of locking the whole list, each operation only locks the one or two nodes it changes,
+ * so threads working on different parts of a long list do not wait for each other.
+ * <p>
+ * The list follows the 'lazy list' scheme of optimistic locking. A thread first walks the list
+ * without taking any locks to find the nodes it needs, then locks them, and checks that they 
+ * are still linked to each other and have not been removed ; if they have, it simply tries 
+ * again. Removed nodes are first marked and then unlinked, so that threads which only read 
+ * the list, such as {@link #contains(Object)} and {@link #getItemAt(int)}, never need to lock.
+ * <p>
+ * Indexes are only meaningful at the instant an operation takes effect : another thread may
+ * insert or remove items before the index at any time. 
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@param	<T>	the type of Items the ConcurrentLinkedList contains		
+ * 	@see		com.github.sahasatvik.struct.LinkedList
+ * 	@since		0.3.0
+ */
+
+public class ConcurrentLinkedList<T> {
+
+	private static final class Node<T> {
+		final T item;
+		volatile Node<T> right;
+		/** Whether this node has been removed from the list */
+		volatile boolean removed;
+		final ReentrantLock lock = new ReentrantLock();
+
+		Node (T item) {
+			this.item = item;
+		}
+	}
+
+	private final Node<T> head;
+	private final Node<T> tail;
+	private final AtomicInteger size;
+
+
+
+	/**
+	 * This constructor creates an empty ConcurrentLinkedList.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	public ConcurrentLinkedList () {
+		head = new Node<>(null);
+		tail = new Node<>(null);
+		head.right = tail;
+		size = new AtomicInteger();
+	}
+
+	/** Walks to the node at index - 1 (head for index 0), or returns null if the list is too short */
+	private Node<T> nodeBefore (int index) {
+		Node<T> t = head;
+		for (int i = 0; i < index; i++) {
+			t = t.right;
+			if (t == tail) {
+				return null;
+			}
+		}
+		return t;
+	}
+
+
+
+	/**
+	 * This method pushes an item at the index passed to it, locking only the node to the left 
+	 * of the index. The item which previously occupied the given index will be pushed forward.
+	 *
+	 * 	@param	item		the item to be pushed to the index
+	 * 	@param	index		the index at which the item is to be placed
+	 * 	@throws	com.github.sahasatvik.struct.ListIndexOutOfBoundsException	thrown if the index is out of bounds
+	 * 	@since	0.3.0
+	 */
+
+	public void pushItemAt (T item, int index) throws ListIndexOutOfBoundsException {
+		if (index < 0) {
+			throw new ListIndexOutOfBoundsException(index);
+		}
+		Node<T> m = new Node<>(item);
+		while (true) {
+			Node<T> l = nodeBefore(index);
+			if (l == null) {
+				throw new ListIndexOutOfBoundsException(index);
+			}
+			Node<T> r = l.right;
+			l.lock.lock();
+			try {
+				if (!l.removed && l.right == r) {
+					m.right = r;
+					l.right = m;
+					size.incrementAndGet();
+					return;
+				}
+			} finally {
+				l.lock.unlock();
+			}
+		}
+	}
+
+
+
+	/**
+	 * This method pushes an item to the front of the list.
+	 *
+	 * 	@param	item		the item to be pushed
+	 * 	@since	0.3.0
+	 */
+
+	public void pushFirst (T item) {
+		try {
+			pushItemAt(item, 0);
+		} catch (ListIndexOutOfBoundsException e) {
+		}
+	}
+
+
+
+	/**
+	 * This method returns the item at the index passed to it, simultaneously removing it. Only
+	 * the removed node and the node to its left are locked.
+	 *
+	 * 	@param	index		the index of the item to be popped.
+	 * 	@return			the item at the given index
+	 * 	@throws	com.github.sahasatvik.struct.ListException	thrown if the list is empty, or the index is out of bounds
+	 * 	@since	0.3.0
+	 */
+
+	public T popItemAt (int index) throws ListException {
+		if (index < 0) {
+			throw new ListIndexOutOfBoundsException(index);
+		}
+		while (true) {
+			Node<T> l = nodeBefore(index);
+			Node<T> t = (l == null)? tail : l.right;
+			if (t == tail) {
+				if (head.right == tail) {
+					throw EmptyListException.STACKLESS;
+				}
+				throw new ListIndexOutOfBoundsException(index);
+			}
+			if (unlink(l, t)) {
+				return t.item;
+			}
+		}
+	}
+
+
+
+	/**
+	 * This method removes the first occurrence of the item passed to it from the list. Items
+	 * are compared using {@code equals}.
+	 *
+	 * 	@param	item		the item to be removed
+	 * 	@return			true if the item was found and removed
+	 * 	@since	0.3.0
+	 */
+
+	public boolean remove (T item) {
+		while (true) {
+			Node<T> l = head;
+			Node<T> t = l.right;
+			while (t != tail && !matches(t, item)) {
+				l = t;
+				t = t.right;
+			}
+			if (t == tail) {
+				return false;
+			}
+			if (unlink(l, t)) {
+				return true;
+			}
+		}
+	}
+
+	/** Locks both nodes, and unlinks t if it is still linked to the right of l */
+	private boolean unlink (Node<T> l, Node<T> t) {
+		l.lock.lock();
+		try {
+			t.lock.lock();
+			try {
+				if (l.removed || t.removed || l.right != t) {
+					return false;
+				}
+				t.removed = true;
+				l.right = t.right;
+				size.decrementAndGet();
+				return true;
+			} finally {
+				t.lock.unlock();
+			}
+		} finally {
+			l.lock.unlock();
+		}
+	}
+
+	private static <T> boolean matches (Node<T> t, T item) {
+		return (item == null)? (t.item == null) : item.equals(t.item);
+	}
+
+
+
+	/**
+	 * This method returns the item at the index passed to it, without taking any locks.
+	 *
+	 * 	@param	index		the index from which the item is to be fetched
+	 * 	@return			the item at index 
+	 * 	@throws	com.github.sahasatvik.struct.ListIndexOutOfBoundsException	thrown if the index is out of bounds
+	 * 	@since	0.3.0
+	 */
+
+	public T getItemAt (int index) throws ListIndexOutOfBoundsException {
+		Node<T> l = (index < 0)? null : nodeBefore(index);
+		Node<T> t = (l == null)? tail : l.right;
+		if (t == tail) {
+			throw new ListIndexOutOfBoundsException(index);
+		}
+		return t.item;
+	}
+
+
+
+	/**
+	 * This method returns whether the list contains the item passed to it, without taking any locks.
+	 *
+	 * 	@param	item		the item to be searched for
+	 * 	@return			true if the item is present in the list
+	 * 	@since	0.3.0
+	 */
+
+	public boolean contains (T item) {
+		Node<T> t = head.right;
+		while (t != tail) {
+			if (!t.removed && matches(t, item)) {
+				return true;
+			}
+			t = t.right;
+		}
+		return false;
+	}
+
+
+
+	/**
+	 * This method returns the number of items in the list. While other threads are modifying
+	 * the list, the result is only an estimate.
+	 *
+	 * 	@return			the number of items in the list
+	 * 	@since	0.3.0
+	 */
+
+	public int getSize () {
+		return size.get();
+	}
+} 
@@ -0,0 +1,254 @@
+
+package com.github.sahasatvik.struct;
+
+import java.util.Arrays;
+
+/**
+ * This class describes a growable sequence of primitive {@code double} values, stored in a 
+ * contiguous array without boxing. Values can be pushed to the end, and fetched by index in 
+ * constant time.
+ * <p>
+ * Bulk operations (sum, minimum, maximum, search, counting and filtering) run as simple loops
+ * over the backing array. Apart from the search, which stops at the first match, they visit
+ * every value without an early exit, so the JIT compiler can unroll and vectorize them. All of
+ * them are much faster than iterating a {@code Queue<Double>}, which must follow a link and unbox 
+ * each value.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.struct.PrimitiveSequence
+ * 	@see		com.github.sahasatvik.struct.Queue
+ * 	@since		0.3.0
+ */
+
+public class DoubleSequence extends PrimitiveSequence {
+
+	private double[] values;
+
+
+
+	/**
+	 * This constructor creates an empty DoubleSequence.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	public DoubleSequence () {
+		this(new double[16], 0);
+	}
+
+
+
+	/**
+	 * This method creates an empty DoubleSequence with space for the given number of values.
+	 *
+	 * 	@param	capacity	the initial capacity
+	 * 	@return			an empty DoubleSequence
+	 * 	@since	0.3.0
+	 */
+
+	public static DoubleSequence withCapacity (int capacity) {
+		return new DoubleSequence(new double[Math.max(capacity, 1)], 0);
+	}
+
+
+
+	/**
+	 * This constructor creates a DoubleSequence holding a copy of the values passed to it.
+	 *
+	 * 	@param	values		the values to be copied
+	 * 	@since	0.3.0
+	 */
+
+	public DoubleSequence (double ... values) {
+		this(Arrays.copyOf(values, Math.max(values.length, 1)), values.length);
+	}
+
+	private DoubleSequence (double[] values, int size) {
+		super(size);
+		this.values = values;
+	}
+
+
+
+	/**
+	 * This method pushes a value to the end of the sequence.
+	 *
+	 * 	@param	value		the value to be pushed
+	 * 	@since	0.3.0
+	 */
+
+	public void push (double value) {
+		if (size == values.length) {
+			values = Arrays.copyOf(values, grownLength());
+		}
+		values[size++] = value;
+	}
+
+
+
+	/**
+	 * This method returns the value at the index passed to it.
+	 *
+	 * 	@param	index		the index from which the value is to be fetched
+	 * 	@return			the value at index
+	 * 	@throws	com.github.sahasatvik.struct.ListIndexOutOfBoundsException	thrown if the index is out of bounds
+	 * 	@since	0.3.0
+	 */
+
+	public double getItemAt (int index) throws ListIndexOutOfBoundsException {
+		checkIndex(index);
+		return values[index];
+	}
+
+
+
+	/**
+	 * This method returns the sum of the values in the sequence.
+	 *
+	 * 	@return			the sum of the values, or 0 if the sequence is empty
+	 * 	@since	0.3.0
+	 */
+
+	public double sum () {
+		double[] v = values;
+		double sum = 0;
+		for (int i = 0; i < size; i++) {
+			sum += v[i];
+		}
+		return sum;
+	}
+
+
+
+	/**
+	 * This method returns the smallest value in the sequence.
+	 *
+	 * 	@return			the smallest value
+	 * 	@throws	com.github.sahasatvik.struct.EmptyListException	thrown if the sequence is empty
+	 * 	@since	0.3.0
+	 */
+
+	public double min () throws EmptyListException {
+		if (size == 0) {
+			throw EmptyListException.STACKLESS;
+		}
+		double[] v = values;
+		double min = v[0];
+		for (int i = 1; i < size; i++) {
+			min = Math.min(min, v[i]);
+		}
+		return min;
+	}
+
+
+
+	/**
+	 * This method returns the largest value in the sequence.
+	 *
+	 * 	@return			the largest value
+	 * 	@throws	com.github.sahasatvik.struct.EmptyListException	thrown if the sequence is empty
+	 * 	@since	0.3.0
+	 */
+
+	public double max () throws EmptyListException {
+		if (size == 0) {
+			throw EmptyListException.STACKLESS;
+		}
+		double[] v = values;
+		double max = v[0];
+		for (int i = 1; i < size; i++) {
+			max = Math.max(max, v[i]);
+		}
+		return max;
+	}
+
+
+
+	/**
+	 * This method returns the index of the first occurrence of the value passed to it, or -1
+	 * if the sequence does not contain it.
+	 *
+	 * 	@param	value		the value to be searched for
+	 * 	@return			the index of the value, or -1 if it is absent
+	 * 	@since	0.3.0
+	 */
+
+	public int indexOf (double value) {
+		double[] v = values;
+		for (int i = 0; i < size; i++) {
+			if (v[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+
+	/**
+	 * This method returns the number of values in the sequence which lie between the bounds
+	 * passed to it, both inclusive.
+	 *
+	 * 	@param	low		the lower bound
+	 * 	@param	high		the upper bound
+	 * 	@return			the number of values between low and high
+	 * 	@since	0.3.0
+	 */
+
+	public int countBetween (double low, double high) {
+		double[] v = values;
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			count += (v[i] >= low && v[i] <= high)? 1 : 0;
+		}
+		return count;
+	}
+
+
+
+	/**
+	 * This method pushes the values in the sequence which lie between the bounds passed to it,
+	 * both inclusive, to the end of another sequence. The order of the values is kept.
+	 *
+	 * 	@param	low		the lower bound
+	 * 	@param	high		the upper bound
+	 * 	@param	target		the sequence into which matching values are pushed
+	 * 	@return			the number of values pushed
+	 * 	@since	0.3.0
+	 */
+
+	public int filterInto (double low, double high, DoubleSequence target) {
+		int count = countBetween(low, high);
+		if (target.size + count >= target.values.length) {
+			target.values = Arrays.copyOf(target.values, target.size + count + 1);
+		}
+		double[] v = values;
+		double[] t = target.values;
+		int j = target.size;
+		for (int i = 0; i < size; i++) {
+			t[j] = v[i];
+			j += (v[i] >= low && v[i] <= high)? 1 : 0;
+		}
+		target.size = j;
+		return count;
+	}
+
+
+
+	/**
+	 * This method returns a copy of the values in the sequence.
+	 *
+	 * 	@return			an array containing the values
+	 * 	@since	0.3.0
+	 */
+
+	public double[] toArray () {
+		return Arrays.copyOf(values, size);
+	}
+
+	@Override
+	void appendItemAt (StringBuilder sb, int index) {
+		sb.append(values[index]);
+	}
+} 
@@ -13,6 +13,11 @@ package com.github.sahasatvik.struct;
 
 public class EmptyListException extends ListException {
 	
+	private static final String MESSAGE = "EmptyListException : Cannot pop/remove item from an empty list";
+
+	/** A shared instance without a stack trace, thrown by lists which are popped while empty */
+	static final EmptyListException STACKLESS = new EmptyListException(false);
+
 	/** 
 	 * Constructor of EmptyListException.
 	 * 	
@@ -20,6 +25,10 @@ public class EmptyListException extends ListException {
 	 */
 
 	public EmptyListException () {
-		super("EmptyListException : Cannot pop/remove item from an empty list");
+		super(MESSAGE);
+	}
+
+	private EmptyListException (boolean writableStackTrace) {
+		super(MESSAGE, writableStackTrace);
 	}
 } 
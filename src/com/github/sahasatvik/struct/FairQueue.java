@@ -0,0 +1,214 @@
+
+package com.github.sahasatvik.struct;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class describes a queue which is shared fairly between several keys, such as tenants
+ * or clients. Each key has its own Queue, and items are popped from the keys in turn, by 
+ * weighted deficit round robin : a key with weight w has up to w items popped in each round, 
+ * so a key with many waiting items cannot starve the others.
+ * <p>
+ * Only keys which have items waiting take part in a round. They are kept in an IntrusiveList,
+ * so that empty keys are skipped without being scanned, and both pushing and popping take 
+ * constant time however many keys there are. The depth of each key's queue and the number of
+ * items popped from it can be queried at any time. A FairQueue is not synchronized.
+ *
+ * 	@author		Satvik Saha
+ *	@version	0.3.0, 19/10/2026
+ *	@param	<K>	the type of the keys
+ *	@param	<T>	the type of items the queue holds
+ *	@see	com.github.sahasatvik.struct.Queue
+ *	@since		0.3.0
+ */
+
+public class FairQueue<K, T> {
+
+	/** The queue of a single key, which is linked into the active list while it has items */
+	private static final class Lane<K, T> extends IntrusiveNode<Lane<K, T>> {
+		final Queue<T> items = new Queue<>();
+		/** The number of items in the queue, kept here since Queue.getSize() walks the whole queue */
+		int depth;
+		int weight;
+		/** The number of items which may still be popped in the current turn */
+		int deficit;
+		long served;
+
+		Lane (int weight) {
+			this.weight = weight;
+		}
+	}
+
+	private final Map<K, Lane<K, T>> lanes;
+	private final IntrusiveList<Lane<K, T>> active;
+	private final int defaultWeight;
+	private long size;
+
+
+
+	/**
+	 * This constructor creates a FairQueue in which every key has a weight of 1, ie, items
+	 * are popped from the keys in strict turns.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	public FairQueue () {
+		this(1);
+	}
+
+
+
+	/**
+	 * This constructor creates a FairQueue in which keys have the given weight, unless set 
+	 * otherwise by {@link #setWeight(Object, int)}.
+	 *
+	 * 	@param	defaultWeight	the weight of keys whose weight has not been set
+	 * 	@since	0.3.0
+	 */
+
+	public FairQueue (int defaultWeight) {
+		if (defaultWeight <= 0) {
+			throw new IllegalArgumentException("Weight of a key must be positive !");
+		}
+		this.defaultWeight = defaultWeight;
+		this.lanes = new HashMap<>();
+		this.active = new IntrusiveList<>();
+	}
+
+
+
+	/**
+	 * This method sets the weight of a key, ie, the number of its items which are popped 
+	 * in each round. The new weight applies from the key's next turn.
+	 *
+	 * 	@param	key		the key
+	 * 	@param	weight		the weight of the key
+	 * 	@since	0.3.0
+	 */
+
+	public void setWeight (K key, int weight) {
+		if (weight <= 0) {
+			throw new IllegalArgumentException("Weight of a key must be positive !");
+		}
+		lane(key).weight = weight;
+	}
+
+
+
+	/**
+	 * This method pushes an item to the end of the given key's queue.
+	 *
+	 * 	@param	key		the key to which the item belongs
+	 * 	@param	item		the item to be pushed
+	 * 	@since	0.3.0
+	 */
+
+	public void push (K key, T item) {
+		Lane<K, T> lane = lane(key);
+		lane.items.push(item);
+		lane.depth++;
+		if (!lane.isLinked()) {
+			active.push(lane);
+		}
+		size++;
+	}
+
+
+
+	/**
+	 * This method pops the next item, taking turns between the keys which have items waiting.
+	 *
+	 * 	@return			the next item, or null if every key's queue is empty
+	 * 	@since	0.3.0
+	 */
+
+	public T poll () {
+		Lane<K, T> lane = active.peek();
+		if (lane == null) {
+			return null;
+		}
+		if (lane.deficit == 0) {
+			lane.deficit = lane.weight;
+		}
+		T item = lane.items.poll();
+		lane.depth--;
+		lane.deficit--;
+		lane.served++;
+		size--;
+		if (lane.depth == 0) {
+			active.remove(lane);
+			lane.deficit = 0;
+		} else if (lane.deficit == 0) {
+			active.remove(lane);
+			active.push(lane);
+		}
+		return item;
+	}
+
+
+
+	/**
+	 * This method returns the total number of items in the queue.
+	 *
+	 * 	@return			the number of items waiting, over all keys
+	 * 	@since	0.3.0
+	 */
+
+	public long getSize () {
+		return size;
+	}
+
+
+
+	/**
+	 * This method returns the number of items waiting in the given key's queue.
+	 *
+	 * 	@param	key		the key
+	 * 	@return			the number of items waiting for the key
+	 * 	@since	0.3.0
+	 */
+
+	public int getDepth (K key) {
+		Lane<K, T> lane = lanes.get(key);
+		return (lane == null)? 0 : lane.depth;
+	}
+
+
+
+	/**
+	 * This method returns the number of items which have been popped from the given key's queue.
+	 *
+	 * 	@param	key		the key
+	 * 	@return			the number of items popped for the key
+	 * 	@since	0.3.0
+	 */
+
+	public long getServed (K key) {
+		Lane<K, T> lane = lanes.get(key);
+		return (lane == null)? 0 : lane.served;
+	}
+
+
+
+	/**
+	 * This method returns the number of keys which currently have items waiting.
+	 *
+	 * 	@return			the number of non-empty keys
+	 * 	@since	0.3.0
+	 */
+
+	public int getActiveKeys () {
+		return active.getSize();
+	}
+
+	private Lane<K, T> lane (K key) {
+		Lane<K, T> lane = lanes.get(key);
+		if (lane == null) {
+			lane = new Lane<>(defaultWeight);
+			lanes.put(key, lane);
+		}
+		return lane;
+	}
+} 
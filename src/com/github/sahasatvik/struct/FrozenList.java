@@ -0,0 +1,156 @@
+
+package com.github.sahasatvik.struct;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * This class describes a read-only list whose items are stored in a contiguous array. 
+ * Unlike a LinkedList, items can be fetched by index in constant time. A FrozenList is 
+ * created by {@link LinkedList#freeze()}, and never changes afterwards, so it can be 
+ * shared between threads without any synchronization.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@param	<T>	the type of Items the FrozenList contains		
+ * 	@see		com.github.sahasatvik.struct.LinkedList
+ * 	@since		0.3.0
+ */
+
+public final class FrozenList<T> implements Iterable<T> {
+	
+	private final Object[] items;
+
+	FrozenList (Object[] items) {
+		this.items = items;
+	}
+
+
+
+	/**
+	 * This method returns the item (type {@code <T>}) at the index passed to it, in constant time.
+	 *
+	 * 	@param	index		the index from which the item is to be fetched
+	 * 	@return			the item at index 
+	 * 	@throws	com.github.sahasatvik.struct.ListIndexOutOfBoundsException	thrown if the index is out of bounds
+	 * 	@since	0.3.0
+	 */
+
+	public T getItemAt (int index) throws ListIndexOutOfBoundsException {
+		if (index < 0 || index >= items.length) {
+			throw new ListIndexOutOfBoundsException(index);
+		}
+		@SuppressWarnings("unchecked")
+		T item = (T) items[index];
+		return item;
+	}
+
+
+
+	/**
+	 * This method returns the number of items in the FrozenList.
+	 *
+	 * 	@return			the number of items in the list
+	 * 	@since	0.3.0
+	 */
+
+	public int getSize () {
+		return items.length;
+	}
+
+
+
+	/**
+	 * This method returns the index of the first occurrence of the item passed to it,
+	 * or -1 if the list does not contain it. Items are compared using {@code equals}.
+	 *
+	 * 	@param	item		the item to be searched for
+	 * 	@return			the index of the item, or -1 if it is absent
+	 * 	@since	0.3.0
+	 */
+
+	public int indexOf (T item) {
+		for (int i = 0; i < items.length; i++) {
+			if ((item == null)? (items[i] == null) : item.equals(items[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+
+	/**
+	 * This method returns whether the list contains the item passed to it.
+	 *
+	 * 	@param	item		the item to be searched for
+	 * 	@return			true if the item is present in the list
+	 * 	@since	0.3.0
+	 */
+
+	public boolean contains (T item) {
+		return indexOf(item) != -1;
+	}
+
+
+
+	/**
+	 * This method returns a copy of the items in the list, in order.
+	 *
+	 * 	@return			an array containing the items
+	 * 	@since	0.3.0
+	 */
+
+	public Object[] toArray () {
+		return Arrays.copyOf(items, items.length);
+	}
+
+
+
+	/**
+	 * This method returns an Iterator over the items in the list, in order.
+	 *
+	 * 	@return			an Iterator over the items
+	 * 	@since	0.3.0
+	 */
+
+	@Override
+	public Iterator<T> iterator () {
+		return new Iterator<T>() {
+			private int i = 0;
+
+			@Override
+			public boolean hasNext () {
+				return i < items.length;
+			}
+
+			@Override
+			public T next () {
+				if (i >= items.length) {
+					throw new NoSuchElementException();
+				}
+				@SuppressWarnings("unchecked")
+				T item = (T) items[i++];
+				return item;
+			}
+		};
+	}
+
+
+
+	/**
+	 * This method returns a Spliterator over the items in the list, which splits the
+	 * backing array evenly for parallel streams.
+	 *
+	 * 	@return			a Spliterator over the items
+	 * 	@since	0.3.0
+	 */
+
+	@Override
+	public Spliterator<T> spliterator () {
+		return Spliterators.spliterator(items, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+	}
+} 
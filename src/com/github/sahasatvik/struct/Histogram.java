@@ -0,0 +1,253 @@
+
+package com.github.sahasatvik.struct;
+
+import java.util.Arrays;
+
+/**
+ * This class describes a histogram of non-negative {@code long} values, such as latencies in 
+ * nanoseconds, in the style of an HDR histogram. Values are counted in buckets whose widths grow 
+ * with the magnitude of the values : each power of two is divided into the same number of equal
+ * sub-buckets, so every recorded value is known to within a fixed relative error. With the 
+ * default precision of 7 bits the error is under 1.6%, and the whole range of {@code long} is 
+ * covered by 3712 counters.
+ * <p>
+ * Recording a value only computes its bucket from the position of its highest bit and increments
+ * a counter, so it takes constant time and never allocates. Percentiles are found by walking the 
+ * counters, without sorting. Histograms of the same precision can be merged by adding their 
+ * counters, so each thread can record into its own histogram, which are merged when reporting.
+ * A Histogram is not synchronized.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.struct.RingWindow
+ * 	@since		0.3.0
+ */
+
+public class Histogram {
+
+	private final int precision;
+	/** The number of sub-buckets below the first power of two, ie, 2^precision */
+	private final int subBuckets;
+	private final int halfSubBuckets;
+
+	private final long[] counts;
+	private long totalCount;
+	private long min = Long.MAX_VALUE;
+	private long max = Long.MIN_VALUE;
+	private double sum;
+
+
+
+	/**
+	 * This constructor creates an empty Histogram with a precision of 7 bits.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	public Histogram () {
+		this(7);
+	}
+
+
+
+	/**
+	 * This constructor creates an empty Histogram with the given precision. Values are recorded
+	 * with a relative error of at most {@code 2 / 2^precision}.
+	 *
+	 * 	@param	precision	the number of bits of precision, between 2 and 16
+	 * 	@since	0.3.0
+	 */
+
+	public Histogram (int precision) {
+		if (precision < 2 || precision > 16) {
+			throw new IllegalArgumentException("Precision of a Histogram must be between 2 and 16 bits !");
+		}
+		this.precision = precision;
+		this.subBuckets = 1 << precision;
+		this.halfSubBuckets = subBuckets >> 1;
+		this.counts = new long[subBuckets + (63 - precision) * halfSubBuckets];
+	}
+
+	private int indexOf (long value) {
+		if (value < subBuckets) {
+			return (int) value;
+		}
+		int shift = (63 - Long.numberOfLeadingZeros(value)) - (precision - 1);
+		return subBuckets + (shift - 1) * halfSubBuckets + (int) ((value >>> shift) - halfSubBuckets);
+	}
+
+	private long highestValueAt (int index) {
+		if (index < subBuckets) {
+			return index;
+		}
+		int k = index - subBuckets;
+		int shift = k / halfSubBuckets + 1;
+		long m = k % halfSubBuckets + halfSubBuckets;
+		return ((m + 1) << shift) - 1;
+	}
+
+
+
+	/**
+	 * This method records a single occurrence of the value passed to it.
+	 *
+	 * 	@param	value		the value to be recorded
+	 * 	@throws	IllegalArgumentException	thrown if the value is negative
+	 * 	@since	0.3.0
+	 */
+
+	public void record (long value) {
+		record(value, 1);
+	}
+
+
+
+	/**
+	 * This method records the value passed to it the given number of times.
+	 *
+	 * 	@param	value		the value to be recorded
+	 * 	@param	count		the number of occurrences
+	 * 	@throws	IllegalArgumentException	thrown if the value or count is negative
+	 * 	@since	0.3.0
+	 */
+
+	public void record (long value, long count) {
+		if (value < 0 || count < 0) {
+			throw new IllegalArgumentException("Cannot record a negative value or count in a Histogram !");
+		}
+		counts[indexOf(value)] += count;
+		totalCount += count;
+		sum += (double) value * count;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+
+
+	/**
+	 * This method adds the counts of another Histogram of the same precision into this one.
+	 *
+	 * 	@param	other		the histogram to be merged into this one
+	 * 	@throws	IllegalArgumentException	thrown if the histograms have different precisions
+	 * 	@since	0.3.0
+	 */
+
+	public void merge (Histogram other) {
+		if (other.precision != precision) {
+			throw new IllegalArgumentException("Cannot merge Histograms of different precisions !");
+		}
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] += other.counts[i];
+		}
+		totalCount += other.totalCount;
+		sum += other.sum;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+	}
+
+
+
+	/**
+	 * This method returns the value below which the given percentage of the recorded values lie.
+	 * The value returned is the largest value which falls into the same bucket as the exact
+	 * percentile, capped at the largest value recorded.
+	 *
+	 * 	@param	percentile	the percentile, between 0 and 100
+	 * 	@return			the value at the percentile
+	 * 	@throws	com.github.sahasatvik.struct.EmptyListException	thrown if no values have been recorded
+	 * 	@since	0.3.0
+	 */
+
+	public long getValueAtPercentile (double percentile) throws EmptyListException {
+		if (totalCount == 0) {
+			throw EmptyListException.STACKLESS;
+		}
+		double p = Math.min(Math.max(percentile, 0.0), 100.0);
+		long target = Math.max(1, (long) Math.ceil(p / 100.0 * totalCount));
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= target) {
+				return Math.min(highestValueAt(i), max);
+			}
+		}
+		return max;
+	}
+
+
+
+	/**
+	 * This method returns the number of values recorded.
+	 *
+	 * 	@return			the total count
+	 * 	@since	0.3.0
+	 */
+
+	public long getCount () {
+		return totalCount;
+	}
+
+
+
+	/**
+	 * This method returns the smallest value recorded.
+	 *
+	 * 	@return			the smallest value
+	 * 	@throws	com.github.sahasatvik.struct.EmptyListException	thrown if no values have been recorded
+	 * 	@since	0.3.0
+	 */
+
+	public long getMin () throws EmptyListException {
+		if (totalCount == 0) {
+			throw EmptyListException.STACKLESS;
+		}
+		return min;
+	}
+
+
+
+	/**
+	 * This method returns the largest value recorded.
+	 *
+	 * 	@return			the largest value
+	 * 	@throws	com.github.sahasatvik.struct.EmptyListException	thrown if no values have been recorded
+	 * 	@since	0.3.0
+	 */
+
+	public long getMax () throws EmptyListException {
+		if (totalCount == 0) {
+			throw EmptyListException.STACKLESS;
+		}
+		return max;
+	}
+
+
+
+	/**
+	 * This method returns the mean of the values recorded. The mean is exact, and does not 
+	 * depend on the precision of the buckets.
+	 *
+	 * 	@return			the mean, or 0 if no values have been recorded
+	 * 	@since	0.3.0
+	 */
+
+	public double getMean () {
+		return (totalCount == 0)? 0.0 : sum / totalCount;
+	}
+
+
+
+	/**
+	 * This method clears all recorded values.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	public void reset () {
+		Arrays.fill(counts, 0);
+		totalCount = 0;
+		sum = 0;
+		min = Long.MAX_VALUE;
+		max = Long.MIN_VALUE;
+	}
+} 
@@ -0,0 +1,210 @@
+
+package com.github.sahasatvik.struct;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * This class describes a LinkedList which keeps a hash index from each item to the 
+ * ListItem containing it. This allows items to be looked up, removed and moved to either
+ * end of the list in constant time, without walking the list. Each item may be present 
+ * in the list at most once : pushing an item which is already present moves it instead.
+ * <p>
+ * Items are compared using {@code equals} and {@code hashCode} by default. Passing
+ * {@code true} to {@link #IndexedLinkedList(boolean)} compares items by identity instead.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@param	<T>	the type of Items the IndexedLinkedList contains		
+ * 	@see		com.github.sahasatvik.struct.LinkedList
+ * 	@since		0.3.0
+ */
+
+public class IndexedLinkedList<T> extends LinkedList<T> {
+	
+	/** The index from each item to the ListItem containing it */
+	private final Map<T, ListItem<T>> index;
+
+
+
+	/**
+	 * This constructor creates an IndexedLinkedList which compares items using {@code equals}.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	public IndexedLinkedList () {
+		this(false);
+	}
+
+
+
+	/**
+	 * This constructor creates an IndexedLinkedList which compares items either by identity
+	 * or using {@code equals}.
+	 *
+	 * 	@param	identity	true if items are to be compared by identity
+	 * 	@since	0.3.0
+	 */
+
+	public IndexedLinkedList (boolean identity) {
+		super();
+		index = (identity)? new IdentityHashMap<>() : new HashMap<>();
+	}
+
+
+
+	/**
+	 * This method pushes an item (type {@code <T>}) at the index passed to it, and records
+	 * it in the hash index. If the item is already present, it is moved to the index instead,
+	 * which then refers to the list without the item.
+	 *
+	 * 	@param	item		the item to be pushed to the index
+	 * 	@param	index		the index at which the item is to be placed
+	 * 	@throws	com.github.sahasatvik.struct.ListIndexOutOfBoundsException	thrown if the index is out of bounds
+	 * 	@since	0.3.0
+	 */
+
+	@Override
+	public void pushItemAt (T item, int index) throws ListIndexOutOfBoundsException {
+		ListItem<T> t = this.index.get(item);
+		int n = (t == null)? size : size - 1;
+		if (index > n || index < 0) {
+			throw new ListIndexOutOfBoundsException(index);
+		}
+		if (t != null) {
+			this.index.remove(item);
+			unlink(t);
+		}
+		this.index.put(item, linkAfter(getListItemAt((index-1)), item));
+	}
+
+
+
+	/**
+	 * This method returns the item at the index passed to it, simultaneously removing
+	 * it from the list and the hash index.
+	 *
+	 * 	@param	index		the index of the item to be popped.
+	 * 	@return			the item at the given index
+	 * 	@throws	com.github.sahasatvik.struct.ListException	thrown if the index is out of bounds
+	 * 	@since	0.3.0
+	 */
+
+	@Override
+	public T popItemAt (int index) throws ListException {
+		T item = super.popItemAt(index);
+		this.index.remove(item);
+		return item;
+	}
+
+
+
+	/**
+	 * This method returns whether the list contains the item passed to it, in constant time.
+	 *
+	 * 	@param	item		the item to be searched for
+	 * 	@return			true if the item is present in the list
+	 * 	@since	0.3.0
+	 */
+
+	@Override
+	public boolean contains (T item) {
+		return index.containsKey(item);
+	}
+
+
+
+	/**
+	 * This method returns the index of the item passed to it, or -1 if the list does not 
+	 * contain it. The item is found in constant time, but counting its position requires
+	 * walking back to the head of the list.
+	 *
+	 * 	@param	item		the item to be searched for
+	 * 	@return			the index of the item, or -1 if it is absent
+	 * 	@since	0.3.0
+	 */
+
+	@Override
+	public int indexOf (T item) {
+		ListItem<T> t = index.get(item);
+		if (t == null) {
+			return -1;
+		}
+		int i = -1;
+		while (!t.isHead) {
+			t = t.left;
+			i++;
+		}
+		return i;
+	}
+
+
+
+	/**
+	 * This method removes the item passed to it from the list, in constant time.
+	 *
+	 * 	@param	item		the item to be removed
+	 * 	@return			true if the item was present and has been removed
+	 * 	@since	0.3.0
+	 */
+
+	public boolean remove (T item) {
+		ListItem<T> t = index.remove(item);
+		if (t == null) {
+			return false;
+		}
+		unlink(t);
+		return true;
+	}
+
+
+
+	/**
+	 * This method moves the item passed to it to the front (index 0) of the list, in 
+	 * constant time.
+	 *
+	 * 	@param	item		the item to be moved
+	 * 	@return			true if the item was present and has been moved
+	 * 	@since	0.3.0
+	 */
+
+	public boolean moveToFront (T item) {
+		ListItem<T> t = index.get(item);
+		if (t == null) {
+			return false;
+		}
+		relink(t, head, head.right);
+		return true;
+	}
+
+
+
+	/**
+	 * This method moves the item passed to it to the back (index size - 1) of the list, in 
+	 * constant time.
+	 *
+	 * 	@param	item		the item to be moved
+	 * 	@return			true if the item was present and has been moved
+	 * 	@since	0.3.0
+	 */
+
+	public boolean moveToBack (T item) {
+		ListItem<T> t = index.get(item);
+		if (t == null) {
+			return false;
+		}
+		relink(t, tail.left, tail);
+		return true;
+	}
+
+	private void relink (ListItem<T> t, ListItem<T> l, ListItem<T> r) {
+		if (t == l || t == r) {
+			return;
+		}
+		ListItem.<T>link(t.left, t.right);
+		ListItem.<T>link(l, t);
+		ListItem.<T>link(t, r);
+	}
+} 
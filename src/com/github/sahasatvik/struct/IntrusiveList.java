@@ -0,0 +1,208 @@
+
+package com.github.sahasatvik.struct;
+
+/**
+ * This class describes a doubly linked list of IntrusiveNodes, which carry their own links. 
+ * Pushing, popping and removing nodes takes constant time and allocates nothing, and checking 
+ * whether a node is in the list only needs to look at the node. Nodes can be pushed and 
+ * popped at either end, so an IntrusiveList can be used as a queue or as a stack.
+ * <p>
+ * A node can only be in one IntrusiveList at a time : it must be removed from its list before
+ * being pushed into another.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@param	<N>	the type of nodes the list holds
+ * 	@see		com.github.sahasatvik.struct.IntrusiveNode
+ * 	@see		com.github.sahasatvik.struct.LinkedList
+ * 	@since		0.3.0
+ */
+
+public class IntrusiveList<N extends IntrusiveNode<N>> {
+
+	private N first;
+	private N last;
+	private int size;
+
+
+
+	/**
+	 * This method pushes a node to the end of the list.
+	 *
+	 * 	@param	node		the node to be pushed
+	 * 	@throws	IllegalStateException	thrown if the node is already in a list
+	 * 	@since	0.3.0
+	 */
+
+	public void push (N node) {
+		pushAfter(last, node);
+	}
+
+
+
+	/**
+	 * This method pushes a node to the front of the list.
+	 *
+	 * 	@param	node		the node to be pushed
+	 * 	@throws	IllegalStateException	thrown if the node is already in a list
+	 * 	@since	0.3.0
+	 */
+
+	public void pushFirst (N node) {
+		pushAfter(null, node);
+	}
+
+
+
+	/**
+	 * This method pushes a node immediately after another node in this list. Passing null as the
+	 * node to push after pushes the node to the front of the list.
+	 *
+	 * 	@param	before		the node after which the new node is to be placed, or null
+	 * 	@param	node		the node to be pushed
+	 * 	@throws	IllegalStateException	thrown if the node is already in a list, or 'before' is not in this list
+	 * 	@since	0.3.0
+	 */
+
+	public void pushAfter (N before, N node) {
+		if (node.list != null) {
+			throw new IllegalStateException("Node is already linked into a list !");
+		}
+		if (before != null && before.list != this) {
+			throw new IllegalStateException("Node to push after is not in this list !");
+		}
+		N after = (before == null)? first : before.right;
+		node.left = before;
+		node.right = after;
+		if (before == null) {
+			first = node;
+		} else {
+			before.right = node;
+		}
+		if (after == null) {
+			last = node;
+		} else {
+			after.left = node;
+		}
+		node.list = this;
+		size++;
+	}
+
+
+
+	/**
+	 * This method removes the node passed to it from this list, in constant time.
+	 *
+	 * 	@param	node		the node to be removed
+	 * 	@return			true if the node was in this list and has been removed
+	 * 	@since	0.3.0
+	 */
+
+	public boolean remove (N node) {
+		if (node.list != this) {
+			return false;
+		}
+		if (node.left == null) {
+			first = node.right;
+		} else {
+			node.left.right = node.right;
+		}
+		if (node.right == null) {
+			last = node.left;
+		} else {
+			node.right.left = node.left;
+		}
+		node.left = null;
+		node.right = null;
+		node.list = null;
+		size--;
+		return true;
+	}
+
+
+
+	/**
+	 * This method pops the first node off the list, or returns null if the list is empty.
+	 *
+	 * 	@return			the first node, or null if the list is empty
+	 * 	@since	0.3.0
+	 */
+
+	public N poll () {
+		N node = first;
+		if (node != null) {
+			remove(node);
+		}
+		return node;
+	}
+
+
+
+	/**
+	 * This method pops the last node off the list, or returns null if the list is empty.
+	 *
+	 * 	@return			the last node, or null if the list is empty
+	 * 	@since	0.3.0
+	 */
+
+	public N pollLast () {
+		N node = last;
+		if (node != null) {
+			remove(node);
+		}
+		return node;
+	}
+
+
+
+	/**
+	 * This method returns the first node in the list without popping it.
+	 *
+	 * 	@return			the first node, or null if the list is empty
+	 * 	@since	0.3.0
+	 */
+
+	public N peek () {
+		return first;
+	}
+
+
+
+	/**
+	 * This method returns the last node in the list without popping it.
+	 *
+	 * 	@return			the last node, or null if the list is empty
+	 * 	@since	0.3.0
+	 */
+
+	public N peekLast () {
+		return last;
+	}
+
+
+
+	/**
+	 * This method returns whether the node passed to it is in this list, in constant time.
+	 *
+	 * 	@param	node		the node to be checked
+	 * 	@return			true if the node is in this list
+	 * 	@since	0.3.0
+	 */
+
+	public boolean contains (N node) {
+		return node.list == this;
+	}
+
+
+
+	/**
+	 * This method returns the number of nodes in the list.
+	 *
+	 * 	@return			the number of nodes in the list
+	 * 	@since	0.3.0
+	 */
+
+	public int getSize () {
+		return size;
+	}
+} 
@@ -0,0 +1,97 @@
+
+package com.github.sahasatvik.struct;
+
+/**
+ * This class is the superclass of objects which can be linked directly into an IntrusiveList.
+ * Unlike items in a LinkedList, which are each wrapped in a new ListItem, an IntrusiveNode 
+ * carries its own links, so linking and unlinking it never allocates. An IntrusiveNode can 
+ * be in at most one IntrusiveList at a time, and can remove itself from that list in constant
+ * time by calling {@link #unlink()}. For example :
+ * <pre>{@code
+ *	class Session extends IntrusiveNode<Session> {
+ *		.
+ *		.
+ *		.
+ *	}
+ *
+ *	IntrusiveList<Session> idle = new IntrusiveList<>();
+ *	idle.push(session);
+ *	.
+ *	.
+ *	.
+ *	session.unlink();			// No lookup is needed
+ * }</pre>
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@param	<N>	the type of the subclass itself
+ * 	@see		com.github.sahasatvik.struct.IntrusiveList
+ * 	@since		0.3.0
+ */
+
+public abstract class IntrusiveNode<N extends IntrusiveNode<N>> {
+
+	/** The node linked to the left of this, or null if this is the first node */
+	N left;
+	/** The node linked to the right of this, or null if this is the last node */
+	N right;
+	/** The list containing this node, or null if it is not linked */
+	IntrusiveList<N> list;
+
+
+
+	/**
+	 * This method returns the node linked to the left of this one.
+	 *
+	 * 	@return			the node to the left, or null if this is the first node or is not linked
+	 * 	@since	0.3.0
+	 */
+
+	public N getLeft () {
+		return left;
+	}
+
+
+
+	/**
+	 * This method returns the node linked to the right of this one.
+	 *
+	 * 	@return			the node to the right, or null if this is the last node or is not linked
+	 * 	@since	0.3.0
+	 */
+
+	public N getRight () {
+		return right;
+	}
+
+
+
+	/**
+	 * This method returns whether this node is currently linked into a list.
+	 *
+	 * 	@return			true if this node is in a list
+	 * 	@since	0.3.0
+	 */
+
+	public boolean isLinked () {
+		return list != null;
+	}
+
+
+
+	/**
+	 * This method removes this node from the list containing it, in constant time.
+	 *
+	 * 	@return			true if the node was in a list and has been removed
+	 * 	@since	0.3.0
+	 */
+
+	public boolean unlink () {
+		if (list == null) {
+			return false;
+		}
+		@SuppressWarnings("unchecked")
+		N self = (N) this;
+		return list.remove(self);
+	}
+} 
@@ -80,7 +80,7 @@ public class LinkedList<T> {
 		if (t.isHead || t.isTail) {
 			throw new ListIndexOutOfBoundsException(index);
 		}
-		return getListItemAt(index).item;
+		return t.item;
 	}
 
 
@@ -117,12 +117,7 @@ public class LinkedList<T> {
 
 	public void pushItemAt (T item, int index) throws ListIndexOutOfBoundsException {
 		if (index <= size && index >= 0) {
-			ListItem<T> m = new ListItem<>(item);
-			ListItem<T> l = getListItemAt((index-1));
-			ListItem<T> r = l.right;
-			ListItem.<T>link(l, m);
-			ListItem.<T>link(m, r);
-			size++;
+			linkAfter(getListItemAt((index-1)), item);
 		} else {
 			throw new ListIndexOutOfBoundsException(index);
 		}
@@ -142,17 +137,127 @@ public class LinkedList<T> {
 
 	public T popItemAt (int index) throws ListException {
 		if (size == 0) {
-			throw new EmptyListException();
+			throw EmptyListException.STACKLESS;
 		}
 		ListItem<T> t = getListItemAt(index);
 		if (index < size && index >= 0) {
-			ListItem<T> l = t.left;
-			ListItem<T> r = t.right;
-			ListItem.<T>link(l, r);
-			size--;
+			unlink(t);
 		} else {
 			throw new ListIndexOutOfBoundsException(index);	
 		}
 		return t.item;
 	}
+
+
+
+	/**
+	 * This method returns the index of the first occurrence of the item passed to it,
+	 * or -1 if the list does not contain it. Items are compared using {@code equals}.
+	 *
+	 * 	@param	item		the item to be searched for
+	 * 	@return			the index of the item, or -1 if it is absent
+	 * 	@since	0.3.0
+	 */
+
+	public int indexOf (T item) {
+		ListItem<T> t = head.right;
+		int index = 0;
+		while (!t.isTail) {
+			if ((item == null)? (t.item == null) : item.equals(t.item)) {
+				return index;
+			}
+			t = t.right;
+			index++;
+		}
+		return -1;
+	}
+
+
+
+	/**
+	 * This method returns whether the list contains the item passed to it.
+	 *
+	 * 	@param	item		the item to be searched for
+	 * 	@return			true if the item is present in the list
+	 * 	@see	#indexOf(Object)
+	 * 	@since	0.3.0
+	 */
+
+	public boolean contains (T item) {
+		return indexOf(item) != -1;
+	}
+
+
+
+	/**
+	 * This method copies the items in the list, in order, into an array-backed FrozenList. 
+	 * The FrozenList is read-only and fetches items by index in constant time, and is not 
+	 * affected by later changes to this list.
+	 *
+	 * 	@return			a read-only snapshot of the list
+	 * 	@see	com.github.sahasatvik.struct.FrozenList
+	 * 	@since	0.3.0
+	 */
+
+	public FrozenList<T> freeze () {
+		Object[] items = new Object[size];
+		ListItem<T> t = head.right;
+		for (int i = 0; i < size; i++) {
+			items[i] = t.item;
+			t = t.right;
+		}
+		return new FrozenList<>(items);
+	}
+
+
+
+	/**
+	 * This method creates a new ListItem holding the item passed to it, and links it
+	 * immediately to the right of the given ListItem.
+	 *
+	 * 	@param	l		the ListItem after which the item is to be placed
+	 * 	@param	item		the item to be placed
+	 * 	@return			the newly linked ListItem
+	 * 	@since	0.3.0
+	 */
+
+	protected ListItem<T> linkAfter (ListItem<T> l, T item) {
+		return linkAfter(l, new ListItem<>(item));
+	}
+
+
+
+	/**
+	 * This method links the given ListItem, which must not be in any list, immediately to the
+	 * right of another ListItem. Subclasses can use it to link ListItems which carry more than
+	 * their item.
+	 *
+	 * 	@param	l		the ListItem after which m is to be placed
+	 * 	@param	m		the ListItem to be linked
+	 * 	@return			the ListItem m
+	 * 	@since	0.3.0
+	 */
+
+	protected ListItem<T> linkAfter (ListItem<T> l, ListItem<T> m) {
+		ListItem<T> r = l.right;
+		ListItem.<T>link(l, m);
+		ListItem.<T>link(m, r);
+		size++;
+		return m;
+	}
+
+
+
+	/**
+	 * This method removes the given ListItem from the list by linking its neighbours
+	 * together.
+	 *
+	 * 	@param	t		the ListItem to be removed
+	 * 	@since	0.3.0
+	 */
+
+	protected void unlink (ListItem<T> t) {
+		ListItem.<T>link(t.left, t.right);
+		size--;
+	}
 } 
@@ -21,4 +21,20 @@ public class ListException extends Exception {
 	public ListException (String message) {
 		super("ListException : " + message);
 	}
+
+
+
+	/**
+	 * Constructor of ListException, which can skip capturing the stack trace. Stackless
+	 * instances are cheap to create, and can be cached and thrown repeatedly on paths
+	 * where the failure is expected, such as popping from an empty list in a loop.
+	 *
+	 * 	@param	message			a brief description of the Exceptions
+	 * 	@param	writableStackTrace	false if the stack trace is not to be captured
+	 * 	@since	0.3.0
+	 */
+
+	protected ListException (String message, boolean writableStackTrace) {
+		super("ListException : " + message, null, false, writableStackTrace);
+	}
 } 
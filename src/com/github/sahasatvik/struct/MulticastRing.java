@@ -0,0 +1,251 @@
+
+package com.github.sahasatvik.struct;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class describes a ring buffer which is written by a single producer, and read in full
+ * by several independent consumers. Each item is stored once, and every Reader of the ring 
+ * sees every item in the order it was pushed, without the item being copied into a separate
+ * queue for each consumer.
+ * <p>
+ * Each Reader keeps its own sequence, ie, the number of items it has read. The producer may
+ * only overwrite a slot once every Reader has read past it, so the slowest Reader decides 
+ * how far ahead the producer can get. Readers can also be made to depend on other Readers, 
+ * in which case they never read past them : for example, a replicator can be made to only 
+ * see events once they have been logged.
+ * <pre>{@code
+ *	MulticastRing<Event> ring = new MulticastRing<>(1024);
+ *	MulticastRing.Reader<Event> logger = ring.newReader();
+ *	MulticastRing.Reader<Event> metrics = ring.newReader();
+ *	MulticastRing.Reader<Event> replicator = ring.newReader(logger);
+ *
+ *	ring.push(event);			// On the producer thread
+ *	Event e = logger.poll();		// On the logger thread, null if nothing is available
+ * }</pre>
+ * Only one thread may push into the ring, and each Reader may only be used by one thread at 
+ * a time. Readers should be created before the producer starts ; a Reader created later starts
+ * at the item which will be pushed next. Null items cannot be pushed. Slots are not cleared 
+ * after being read, so items stay reachable until they are overwritten.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@param	<T>	the type of items the ring holds
+ * 	@since		0.3.0
+ */
+
+public class MulticastRing<T> {
+
+	/**
+	 * This class describes a consumer of a MulticastRing, which reads every item pushed into 
+	 * the ring in order.
+	 *
+	 * 	@param	<T>	the type of items the ring holds
+	 * 	@since	0.3.0
+	 */
+
+	public static final class Reader<T> {
+
+		private final MulticastRing<T> ring;
+		private final Reader<?>[] dependencies;
+		/** The sequence of the next item to be read */
+		private final AtomicLong sequence;
+
+		Reader (MulticastRing<T> ring, Reader<?>[] dependencies, long start) {
+			this.ring = ring;
+			this.dependencies = dependencies;
+			this.sequence = new AtomicLong(start);
+		}
+
+
+
+		/**
+		 * This method returns the next item in the ring, or null if this Reader has read every 
+		 * item pushed so far, or has caught up with a Reader it depends on.
+		 *
+		 * 	@return			the next item, or null if none is available
+		 * 	@since	0.3.0
+		 */
+
+		public T poll () {
+			long s = sequence.get();
+			if (s >= limit()) {
+				return null;
+			}
+			@SuppressWarnings("unchecked")
+			T item = (T) ring.slots[(int) (s & ring.mask)];
+			sequence.lazySet(s + 1);
+			return item;
+		}
+
+
+
+		/**
+		 * This method returns the number of items this Reader can currently read.
+		 *
+		 * 	@return			the number of items available
+		 * 	@since	0.3.0
+		 */
+
+		public long available () {
+			return Math.max(0, limit() - sequence.get());
+		}
+
+
+
+		/**
+		 * This method returns the number of items this Reader has read since the ring was created.
+		 *
+		 * 	@return			the sequence of this Reader
+		 * 	@since	0.3.0
+		 */
+
+		public long getSequence () {
+			return sequence.get();
+		}
+
+		private long limit () {
+			long limit = ring.cursor.get();
+			for (Reader<?> d : dependencies) {
+				limit = Math.min(limit, d.sequence.get());
+			}
+			return limit;
+		}
+	}
+
+	private final Object[] slots;
+	private final long mask;
+
+	/** The number of items pushed so far, ie, the sequence of the next item */
+	private final AtomicLong cursor;
+	private volatile Reader<?>[] readers;
+	/** The smallest sequence of all Readers, as last seen by the producer */
+	private long gate;
+
+
+
+	/**
+	 * This constructor creates a MulticastRing which can hold the given number of items, rounded
+	 * up to a power of two.
+	 *
+	 * 	@param	capacity	the number of slots in the ring
+	 * 	@since	0.3.0
+	 */
+
+	public MulticastRing (int capacity) {
+		if (capacity <= 0 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException("Capacity of a MulticastRing must be between 1 and 2^30 !");
+		}
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) {
+			size <<= 1;
+		}
+		this.slots = new Object[size];
+		this.mask = size - 1;
+		this.cursor = new AtomicLong();
+		this.readers = new Reader<?>[0];
+	}
+
+
+
+	/**
+	 * This method creates a new Reader, which only reads items once every Reader passed to it
+	 * has read them.
+	 *
+	 * 	@param	dependencies	the Readers which must read each item first
+	 * 	@return			the new Reader
+	 * 	@since	0.3.0
+	 */
+
+	@SafeVarargs
+	public final synchronized Reader<T> newReader (Reader<T> ... dependencies) {
+		for (Reader<T> d : dependencies) {
+			if (d.ring != this) {
+				throw new IllegalArgumentException("Reader belongs to a different MulticastRing !");
+			}
+		}
+		Reader<T> reader = new Reader<>(this, Arrays.copyOf(dependencies, dependencies.length, Reader[].class), cursor.get());
+		Reader<?>[] r = Arrays.copyOf(readers, readers.length + 1);
+		r[r.length - 1] = reader;
+		readers = r;
+		return reader;
+	}
+
+
+
+	/**
+	 * This method pushes an item into the ring if there is space for it, ie, if every Reader
+	 * has read the item in the slot it would overwrite.
+	 *
+	 * 	@param	item		the item to be pushed
+	 * 	@return			true if the item was pushed, false if the ring is full
+	 * 	@since	0.3.0
+	 */
+
+	public boolean offer (T item) {
+		if (item == null) {
+			throw new NullPointerException("Cannot push null into a MulticastRing !");
+		}
+		long c = cursor.get();
+		long wrap = c - slots.length;
+		if (wrap >= gate) {
+			gate = slowest(c);
+			if (wrap >= gate) {
+				return false;
+			}
+		}
+		slots[(int) (c & mask)] = item;
+		cursor.lazySet(c + 1);
+		return true;
+	}
+
+
+
+	/**
+	 * This method pushes an item into the ring, waiting for the slowest Reader if the ring is full.
+	 *
+	 * 	@param	item		the item to be pushed
+	 * 	@since	0.3.0
+	 */
+
+	public void push (T item) {
+		while (!offer(item)) {
+			Thread.onSpinWait();
+		}
+	}
+
+
+
+	/**
+	 * This method returns the number of items pushed since the ring was created.
+	 *
+	 * 	@return			the sequence of the producer
+	 * 	@since	0.3.0
+	 */
+
+	public long getCursor () {
+		return cursor.get();
+	}
+
+
+
+	/**
+	 * This method returns the number of slots in the ring.
+	 *
+	 * 	@return			the capacity of the ring
+	 * 	@since	0.3.0
+	 */
+
+	public int getCapacity () {
+		return slots.length;
+	}
+
+	private long slowest (long c) {
+		long min = c;
+		for (Reader<?> r : readers) {
+			min = Math.min(min, r.sequence.get());
+		}
+		return min;
+	}
+} 
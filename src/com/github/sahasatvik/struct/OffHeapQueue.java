@@ -0,0 +1,214 @@
+
+package com.github.sahasatvik.struct;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * This class describes a queue which stores its items as fixed-size records outside the 
+ * Java heap. Items are converted to and from records by a {@link RecordCodec}, and packed 
+ * into large direct buffers ('chunks'), so the garbage collector only ever sees a handful of
+ * chunk objects no matter how many items the queue holds. The number of items is counted as
+ * a long, so the queue can grow well beyond two billion items.
+ * <p>
+ * Chunks are taken from the front of the queue once they have been read completely, and a 
+ * few of them are kept for reuse by later pushes instead of being reallocated. Calling 
+ * {@link #close()} drops every chunk, after which the queue can no longer be used. Closing does
+ * not free the native memory itself : Java offers no supported way to free a direct buffer, so
+ * the memory is only returned once the garbage collector has collected the dropped chunks.
+ * <p>
+ * An OffHeapQueue is not synchronized.
+ *
+ * 	@author		Satvik Saha
+ *	@version	0.3.0, 19/10/2026
+ *	@param	<T>	the type of items the queue holds
+ *	@see	com.github.sahasatvik.struct.Queue
+ *	@since		0.3.0
+ */
+
+public class OffHeapQueue<T> implements AutoCloseable {
+
+	private static final int SPARE_CHUNKS = 2;
+
+	private final RecordCodec<T> codec;
+	private final int recordSize;
+	private final int chunkRecords;
+
+	private Queue<ByteBuffer> chunks;
+	private Stack<ByteBuffer> spare;
+
+	/** The chunk to which records are being written, ie, the last one */
+	private ByteBuffer writeChunk;
+	/** The index of the next record to be read in the first chunk */
+	private int readIndex;
+	/** The index of the next record to be written in the last chunk */
+	private int writeIndex;
+
+	private long size;
+
+
+
+	/**
+	 * This constructor creates an OffHeapQueue using chunks of about one megabyte.
+	 *
+	 * 	@param	codec		the codec used to store items as records
+	 * 	@since	0.3.0
+	 */
+
+	public OffHeapQueue (RecordCodec<T> codec) {
+		this(codec, defaultChunkRecords(codec));
+	}
+
+	/** Returns the number of records in a chunk of about one megabyte, leaving invalid record sizes to be rejected */
+	private static int defaultChunkRecords (RecordCodec<?> codec) {
+		int recordSize = codec.recordSize();
+		return (recordSize <= 0)? 1 : Math.max(1, (1 << 20) / recordSize);
+	}
+
+
+
+	/**
+	 * This constructor creates an OffHeapQueue whose chunks each hold the given number of records.
+	 *
+	 * 	@param	codec		the codec used to store items as records
+	 * 	@param	chunkRecords	the number of records in each chunk
+	 * 	@since	0.3.0
+	 */
+
+	public OffHeapQueue (RecordCodec<T> codec, int chunkRecords) {
+		if (codec.recordSize() <= 0 || chunkRecords <= 0 || (long) codec.recordSize() * chunkRecords > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Invalid record size or number of records per chunk !");
+		}
+		this.codec = codec;
+		this.recordSize = codec.recordSize();
+		this.chunkRecords = chunkRecords;
+		this.chunks = new Queue<>();
+		this.spare = new Stack<>();
+	}
+
+
+
+	/**
+	 * This method pushes an item to the end of the queue.
+	 *
+	 * 	@param	item		the item to be pushed
+	 * 	@throws	IllegalStateException	thrown if the queue has been closed
+	 * 	@since	0.3.0
+	 */
+
+	public void push (T item) {
+		ensureOpen();
+		if (writeChunk == null || writeIndex == chunkRecords) {
+			writeChunk = spare.poll();
+			if (writeChunk == null) {
+				writeChunk = ByteBuffer.allocateDirect(recordSize * chunkRecords).order(ByteOrder.nativeOrder());
+			}
+			chunks.push(writeChunk);
+			writeIndex = 0;
+		}
+		codec.write(item, writeChunk, writeIndex * recordSize);
+		writeIndex++;
+		size++;
+	}
+
+
+
+	/**
+	 * This method pops the first item off the queue, or returns null if the queue is empty.
+	 *
+	 * 	@return			the first item in the queue, or null if it is empty
+	 * 	@throws	IllegalStateException	thrown if the queue has been closed
+	 * 	@since	0.3.0
+	 */
+
+	public T poll () {
+		ensureOpen();
+		if (size == 0) {
+			return null;
+		}
+		T item = codec.read(chunks.peek(), readIndex * recordSize);
+		readIndex++;
+		size--;
+		if (size == 0) {
+			readIndex = 0;
+			writeIndex = 0;
+		} else if (readIndex == chunkRecords) {
+			ByteBuffer done = chunks.poll();
+			if (spare.getSize() < SPARE_CHUNKS) {
+				spare.push(done);
+			}
+			readIndex = 0;
+		}
+		return item;
+	}
+
+
+
+	/**
+	 * This method returns the first item in the queue without popping it, or null if the 
+	 * queue is empty.
+	 *
+	 * 	@return			the first item in the queue, or null if it is empty
+	 * 	@throws	IllegalStateException	thrown if the queue has been closed
+	 * 	@since	0.3.0
+	 */
+
+	public T peek () {
+		ensureOpen();
+		return (size == 0)? null : codec.read(chunks.peek(), readIndex * recordSize);
+	}
+
+
+
+	/**
+	 * This method returns the number of items in the queue.
+	 *
+	 * 	@return			the number of items in the queue
+	 * 	@since	0.3.0
+	 */
+
+	public long getSize () {
+		return size;
+	}
+
+
+
+	/**
+	 * This method returns the number of bytes of native memory currently held by the queue,
+	 * including chunks kept for reuse.
+	 *
+	 * 	@return			the number of bytes held
+	 * 	@since	0.3.0
+	 */
+
+	public long getReservedBytes () {
+		if (chunks == null) {
+			return 0;
+		}
+		return (long) (chunks.getSize() + spare.getSize()) * recordSize * chunkRecords;
+	}
+
+
+
+	/**
+	 * This method drops all chunks held by the queue. The queue cannot be used afterwards.
+	 * The native memory of the chunks is returned by the garbage collector, and not by this 
+	 * method. Closing a queue more than once has no effect.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	@Override
+	public void close () {
+		chunks = null;
+		spare = null;
+		writeChunk = null;
+		size = 0;
+	}
+
+	private void ensureOpen () {
+		if (chunks == null) {
+			throw new IllegalStateException("OffHeapQueue has been closed !");
+		}
+	}
+} 
@@ -0,0 +1,25 @@
+
+package com.github.sahasatvik.struct;
+
+/**
+ * This enum describes what a bounded list does when an item is pushed into it, but 
+ * the list is already holding as many items, or as much weight, as it is allowed to.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.struct.BoundedQueue
+ * 	@see		com.github.sahasatvik.struct.BoundedStack
+ * 	@since		0.3.0
+ */
+
+public enum OverflowPolicy {
+
+	/** The new item is discarded, and counted as a rejection */
+	REJECT,
+
+	/** The oldest items in the list are removed until the new item fits */
+	DROP_OLDEST,
+
+	/** The pushing thread waits until enough items have been popped for the new item to fit */
+	BLOCK
+} 
@@ -0,0 +1,85 @@
+package com.github.sahasatvik.struct;
+
+/**
+ * This class is the superclass of the growable sequences of primitive values, {@link IntSequence},
+ * {@link LongSequence} and {@link DoubleSequence}. It holds the parts which do not depend on the
+ * type of the values : the size of the sequence, the growth of the backing array, the checking
+ * of indices, and the String form of the sequence. The operations on the values themselves are
+ * declared by each subclass, so that they work on primitives without boxing.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@since		0.3.0
+ */
+
+public abstract class PrimitiveSequence {
+
+	/** The number of values in the sequence */
+	int size;
+
+	PrimitiveSequence (int size) {
+		this.size = size;
+	}
+
+
+
+	/**
+	 * This method returns the number of values in the sequence.
+	 *
+	 * 	@return			the number of values
+	 * 	@since	0.3.0
+	 */
+
+	public int getSize () {
+		return size;
+	}
+
+
+
+	/**
+	 * This method removes all values from the sequence, keeping its backing array.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	public void clear () {
+		size = 0;
+	}
+
+
+
+	/**
+	 * This method returns the values in the sequence, in the same form as
+	 * {@link java.util.Arrays#toString(int[])}, eg. {@code [1, 2, 3]}.
+	 *
+	 * 	@return			the values, as a String
+	 * 	@since	0.3.0
+	 */
+
+	@Override
+	public String toString () {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			appendItemAt(sb, i);
+		}
+		return sb.append(']').toString();
+	}
+
+	/** Appends the value at the index, which is within bounds, to sb */
+	abstract void appendItemAt (StringBuilder sb, int index);
+
+	/** Throws a ListIndexOutOfBoundsException if the index does not hold a value */
+	void checkIndex (int index) throws ListIndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new ListIndexOutOfBoundsException(index);
+		}
+	}
+
+	/** Returns the length the backing array grows to, once it is full */
+	int grownLength () {
+		return size + (size >> 1) + 1;
+	}
+}
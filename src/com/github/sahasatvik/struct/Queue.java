@@ -21,10 +21,23 @@ public class Queue<T> extends LinkedList<T> {
 	 */
 
 	public void push (T item) {
-		try {
-			super.pushItemAt(item, size);
-		} catch (ListException e) {
-		}
+		linkAfter(tail.left, item);
+	}
+
+
+
+	/**
+	 * This method pushes an item to the end of the queue, and returns whether it was
+	 * accepted. An unbounded queue always accepts the item.
+	 *
+	 * 	@param	item		the item to be pushed
+	 * 	@return			true if the item was pushed
+	 * 	@since	0.3.0
+	 */
+
+	public boolean offer (T item) {
+		push(item);
+		return true;
 	}
 
 	
@@ -40,4 +53,37 @@ public class Queue<T> extends LinkedList<T> {
 	public T pop () throws ListException {
 		return super.popItemAt(0);
 	}
+
+
+
+	/**
+	 * This method pops the first item off the queue, or returns null if the queue is empty.
+	 * Unlike {@link #pop()}, no Exception is created when the queue is empty.
+	 *
+	 * 	@return			the first item in the queue, or null if it is empty
+	 * 	@since	0.3.0
+	 */
+
+	public T poll () {
+		if (size == 0) {
+			return null;
+		}
+		ListItem<T> t = head.right;
+		unlink(t);
+		return t.item;
+	}
+
+
+
+	/**
+	 * This method returns the first item in the queue without popping it, or null if the 
+	 * queue is empty.
+	 *
+	 * 	@return			the first item in the queue, or null if it is empty
+	 * 	@since	0.3.0
+	 */
+
+	public T peek () {
+		return (size == 0)? null : head.right.item;
+	}
 }
@@ -0,0 +1,71 @@
+
+package com.github.sahasatvik.struct;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This interface describes how items are stored as fixed-size records in a buffer, for
+ * collections such as OffHeapQueue which keep their contents outside the Java heap. 
+ * Every record written by a RecordCodec must occupy exactly {@link #recordSize()} bytes.
+ * For example, a codec for points with two int coordinates could be written as :
+ * <pre>{@code
+ *	RecordCodec<Point> points = new RecordCodec<Point>() {
+ *		public int recordSize () {
+ *			return 8;
+ *		}
+ *		public void write (Point p, ByteBuffer buffer, int offset) {
+ *			buffer.putInt(offset, p.x);
+ *			buffer.putInt(offset + 4, p.y);
+ *		}
+ *		public Point read (ByteBuffer buffer, int offset) {
+ *			return new Point(buffer.getInt(offset), buffer.getInt(offset + 4));
+ *		}
+ *	};
+ * }</pre>
+ * Codecs must only use the absolute get and put methods of the buffer, and must not change 
+ * its position or limit.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@param	<T>	the type of items to be stored
+ * 	@see		com.github.sahasatvik.struct.OffHeapQueue
+ * 	@since		0.3.0
+ */
+
+public interface RecordCodec<T> {
+
+	/**
+	 * This method returns the number of bytes occupied by each record.
+	 *
+	 * 	@return			the size of a record, in bytes
+	 * 	@since	0.3.0
+	 */
+
+	public int recordSize ();
+
+
+
+	/**
+	 * This method writes the item passed to it as a record, starting at the given offset.
+	 *
+	 * 	@param	item		the item to be written
+	 * 	@param	buffer		the buffer to write into
+	 * 	@param	offset		the offset of the record within the buffer
+	 * 	@since	0.3.0
+	 */
+
+	public void write (T item, ByteBuffer buffer, int offset);
+
+
+
+	/**
+	 * This method reads the record starting at the given offset back into an item.
+	 *
+	 * 	@param	buffer		the buffer to read from
+	 * 	@param	offset		the offset of the record within the buffer
+	 * 	@return			the item stored in the record
+	 * 	@since	0.3.0
+	 */
+
+	public T read (ByteBuffer buffer, int offset);
+} 
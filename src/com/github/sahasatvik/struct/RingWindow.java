@@ -0,0 +1,213 @@
+
+package com.github.sahasatvik.struct;
+
+/**
+ * This class describes a sliding window over the last few {@code long} values pushed into it,
+ * such as recent latency samples. The values are kept in a fixed-size ring : once the window 
+ * is full, each push overwrites the oldest value, so pushing never allocates and never needs 
+ * a separate pop.
+ * <p>
+ * Index 0 refers to the oldest value in the window, and index {@code getSize() - 1} to the newest.
+ * A RingWindow is not synchronized.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.struct.Histogram
+ * 	@since		0.3.0
+ */
+
+public class RingWindow {
+
+	private final long[] values;
+	/** The index in values at which the next value will be written */
+	private int next;
+	private int size;
+
+
+
+	/**
+	 * This constructor creates an empty RingWindow holding at most the given number of values.
+	 *
+	 * 	@param	capacity	the number of values in a full window
+	 * 	@since	0.3.0
+	 */
+
+	public RingWindow (int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity of a RingWindow must be positive !");
+		}
+		values = new long[capacity];
+	}
+
+
+
+	/**
+	 * This method pushes a value into the window, overwriting the oldest value if the window 
+	 * is full.
+	 *
+	 * 	@param	value		the value to be pushed
+	 * 	@since	0.3.0
+	 */
+
+	public void push (long value) {
+		values[next] = value;
+		next = (next + 1 == values.length)? 0 : next + 1;
+		if (size < values.length) {
+			size++;
+		}
+	}
+
+
+
+	/**
+	 * This method returns the value at the index passed to it, where index 0 is the oldest value.
+	 *
+	 * 	@param	index		the index from which the value is to be fetched
+	 * 	@return			the value at index
+	 * 	@throws	com.github.sahasatvik.struct.ListIndexOutOfBoundsException	thrown if the index is out of bounds
+	 * 	@since	0.3.0
+	 */
+
+	public long getItemAt (int index) throws ListIndexOutOfBoundsException {
+		if (index < 0 || index >= size) {
+			throw new ListIndexOutOfBoundsException(index);
+		}
+		int i = next - size + index;
+		return values[(i < 0)? i + values.length : i];
+	}
+
+
+
+	/**
+	 * This method returns the number of values in the window.
+	 *
+	 * 	@return			the number of values, at most the capacity
+	 * 	@since	0.3.0
+	 */
+
+	public int getSize () {
+		return size;
+	}
+
+
+
+	/**
+	 * This method returns the number of values in a full window.
+	 *
+	 * 	@return			the capacity of the window
+	 * 	@since	0.3.0
+	 */
+
+	public int getCapacity () {
+		return values.length;
+	}
+
+
+
+	/**
+	 * This method returns the sum of the values in the window.
+	 *
+	 * 	@return			the sum of the values, or 0 if the window is empty
+	 * 	@since	0.3.0
+	 */
+
+	public long sum () {
+		long sum = 0;
+		for (int i = 0; i < size; i++) {
+			sum += values[i];
+		}
+		return sum;
+	}
+
+
+
+	/**
+	 * This method returns the smallest value in the window.
+	 *
+	 * 	@return			the smallest value
+	 * 	@throws	com.github.sahasatvik.struct.EmptyListException	thrown if the window is empty
+	 * 	@since	0.3.0
+	 */
+
+	public long min () throws EmptyListException {
+		if (size == 0) {
+			throw EmptyListException.STACKLESS;
+		}
+		long min = Long.MAX_VALUE;
+		for (int i = 0; i < size; i++) {
+			min = Math.min(min, values[i]);
+		}
+		return min;
+	}
+
+
+
+	/**
+	 * This method returns the largest value in the window.
+	 *
+	 * 	@return			the largest value
+	 * 	@throws	com.github.sahasatvik.struct.EmptyListException	thrown if the window is empty
+	 * 	@since	0.3.0
+	 */
+
+	public long max () throws EmptyListException {
+		if (size == 0) {
+			throw EmptyListException.STACKLESS;
+		}
+		long max = Long.MIN_VALUE;
+		for (int i = 0; i < size; i++) {
+			max = Math.max(max, values[i]);
+		}
+		return max;
+	}
+
+
+
+	/**
+	 * This method records every value in the window into a Histogram, so that percentiles of
+	 * the window can be computed without sorting.
+	 *
+	 * 	@param	histogram	the histogram to record into
+	 * 	@since	0.3.0
+	 */
+
+	public void recordInto (Histogram histogram) {
+		for (int i = 0; i < size; i++) {
+			histogram.record(values[i]);
+		}
+	}
+
+
+
+	/**
+	 * This method removes all values from the window.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	public void clear () {
+		next = 0;
+		size = 0;
+	}
+
+
+
+	/**
+	 * This method returns a copy of the values in the window, from the oldest to the newest.
+	 *
+	 * 	@return			an array containing the values
+	 * 	@since	0.3.0
+	 */
+
+	public long[] toArray () {
+		long[] copy = new long[size];
+		int start = next - size;
+		if (start >= 0) {
+			System.arraycopy(values, start, copy, 0, size);
+		} else {
+			System.arraycopy(values, start + values.length, copy, 0, -start);
+			System.arraycopy(values, 0, copy, -start, next);
+		}
+		return copy;
+	}
+} 
@@ -21,10 +21,23 @@ public class Stack<T> extends LinkedList<T> {
 	 */
 
 	public void push (T item) {
-		try {
-			super.pushItemAt(item, size);
-		} catch (ListException e) {
-		}
+		linkAfter(tail.left, item);
+	}
+
+
+
+	/**
+	 * This method pushes an item to the end of the stack, and returns whether it was
+	 * accepted. An unbounded stack always accepts the item.
+	 *
+	 * 	@param	item		the item to be pushed
+	 * 	@return			true if the item was pushed
+	 * 	@since	0.3.0
+	 */
+
+	public boolean offer (T item) {
+		push(item);
+		return true;
 	}
 
 	
@@ -40,4 +53,37 @@ public class Stack<T> extends LinkedList<T> {
 	public T pop () throws ListException {
 		return super.popItemAt((size-1));
 	}
+
+
+
+	/**
+	 * This method pops the last item off the stack, or returns null if the stack is empty.
+	 * Unlike {@link #pop()}, no Exception is created when the stack is empty.
+	 *
+	 * 	@return			the last item in the stack, or null if it is empty
+	 * 	@since	0.3.0
+	 */
+
+	public T poll () {
+		if (size == 0) {
+			return null;
+		}
+		ListItem<T> t = tail.left;
+		unlink(t);
+		return t.item;
+	}
+
+
+
+	/**
+	 * This method returns the last item in the stack without popping it, or null if the 
+	 * stack is empty.
+	 *
+	 * 	@return			the last item in the stack, or null if it is empty
+	 * 	@since	0.3.0
+	 */
+
+	public T peek () {
+		return (size == 0)? null : tail.left.item;
+	}
 }
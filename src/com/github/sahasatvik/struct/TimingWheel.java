@@ -0,0 +1,367 @@
+
+package com.github.sahasatvik.struct;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class describes a hashed hierarchical timing wheel, which runs tasks after a delay. 
+ * It can keep track of millions of pending timeouts : scheduling and cancelling a timeout 
+ * take constant time, and advancing the wheel by one tick only touches the timeouts which are
+ * due, instead of scanning all of them.
+ * <p>
+ * Time is divided into ticks of a fixed duration. The wheel has several levels, each made of
+ * {@code 2^slotBits} slots : a slot in the first level covers a single tick, and a slot in
+ * each further level covers a whole turn of the level below it. Each slot is an IntrusiveList,
+ * and each Timeout carries its own node, so it moves between slots without any further 
+ * allocation. The node is private to the wheel, so a Timeout can only leave its slot by being
+ * cancelled or by expiring. When a slot of a higher level comes due, its timeouts are moved 
+ * down into the finer levels, until they reach the first level and expire. Timeouts further 
+ * away than the range of all the levels wait in an overflow list, which is revisited each time
+ * the top level turns over.
+ * <p>
+ * The wheel is driven either by calling {@link #advance(long)} from an existing loop, or by
+ * {@link #start(ThreadFactory)}, which runs the wheel on a thread created by the given factory
+ * (a platform thread, or a virtual thread on Java versions that provide them). Tasks run on 
+ * the driving thread, so they should be short. They run after the wheel's lock is released, so
+ * a slow task does not hold up other threads scheduling and cancelling timeouts, which they may
+ * do from any thread. A task which throws does not stop the other due tasks from running.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@see		com.github.sahasatvik.struct.IntrusiveList
+ * 	@since		0.3.0
+ */
+
+public class TimingWheel {
+
+	/**
+	 * This class describes a task scheduled on a TimingWheel. It can be cancelled at any time 
+	 * before it expires.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	public static final class Timeout {
+		
+		private final TimingWheel wheel;
+		/** The node linking the timeout into a slot, or into the overflow list */
+		private final Node node = new Node(this);
+		private final Runnable task;
+		/** The tick at which the timeout expires */
+		private final long deadline;
+		private boolean done;
+		/** The next timeout in the batch of due timeouts being run by advance(long) */
+		private Timeout nextDue;
+
+		Timeout (TimingWheel wheel, Runnable task, long deadline) {
+			this.wheel = wheel;
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+
+
+		/**
+		 * This method cancels the timeout, if it has not expired yet.
+		 *
+		 * 	@return			true if the timeout was pending and has been cancelled
+		 * 	@since	0.3.0
+		 */
+
+		public boolean cancel () {
+			return wheel.cancel(this);
+		}
+
+
+
+		/**
+		 * This method returns whether the timeout has either expired or been cancelled.
+		 *
+		 * 	@return			true if the task will no longer run
+		 * 	@since	0.3.0
+		 */
+
+		public boolean isDone () {
+			synchronized (wheel) {
+				return done;
+			}
+		}
+	}
+
+	/** The node of a Timeout, which is kept out of reach of the callers holding the Timeout */
+	private static final class Node extends IntrusiveNode<Node> {
+
+		private final Timeout timeout;
+
+		Node (Timeout timeout) {
+			this.timeout = timeout;
+		}
+	}
+
+	/** A slot of the wheel, which is a named type so that an array of slots needs no raw type */
+	private static final class Slot extends IntrusiveList<Node> {
+	}
+
+	private final long tickNanos;
+	private final int slotBits;
+	private final int levels;
+	private final long mask;
+	private final long origin;
+
+	/** The slots of all levels, level after level */
+	private final Slot[] slots;
+	private final IntrusiveList<Node> overflow;
+
+	/** The next tick to be processed */
+	private long current;
+	private long pending;
+
+	private volatile Thread driver;
+
+
+
+	/**
+	 * This constructor creates a TimingWheel with 1 millisecond ticks, and 4 levels of 256 slots,
+	 * covering about 49 days before timeouts are held in the overflow list.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	public TimingWheel () {
+		this(1, TimeUnit.MILLISECONDS, 8, 4);
+	}
+
+
+
+	/**
+	 * This constructor creates a TimingWheel with the given tick duration and shape.
+	 *
+	 * 	@param	tick		the duration of a tick
+	 * 	@param	unit		the unit of the tick duration
+	 * 	@param	slotBits	the number of bits of slots per level, ie, each level has 2^slotBits slots
+	 * 	@param	levels		the number of levels
+	 * 	@since	0.3.0
+	 */
+
+	public TimingWheel (long tick, TimeUnit unit, int slotBits, int levels) {
+		if (tick <= 0 || slotBits < 1 || levels < 1 || slotBits * levels > 62 || ((long) levels << slotBits) > (1 << 24)) {
+			throw new IllegalArgumentException("Invalid tick duration or wheel size !");
+		}
+		this.tickNanos = Math.max(1, unit.toNanos(tick));
+		this.slotBits = slotBits;
+		this.levels = levels;
+		this.mask = (1L << slotBits) - 1;
+		this.origin = System.nanoTime();
+		this.slots = new Slot[levels << slotBits];
+		for (int i = 0; i < slots.length; i++) {
+			slots[i] = new Slot();
+		}
+		this.overflow = new IntrusiveList<>();
+	}
+
+
+
+	/**
+	 * This method schedules a task to run after the given delay. The task runs on the first 
+	 * tick which starts at or after the delay has passed.
+	 *
+	 * 	@param	task		the task to be run
+	 * 	@param	delay		the delay
+	 * 	@param	unit		the unit of the delay
+	 * 	@return			the Timeout, which can be used to cancel the task
+	 * 	@since	0.3.0
+	 */
+
+	public synchronized Timeout schedule (Runnable task, long delay, TimeUnit unit) {
+		long ticks = (System.nanoTime() - origin + unit.toNanos(Math.max(0, delay)) + tickNanos - 1) / tickNanos;
+		Timeout t = new Timeout(this, task, Math.max(ticks, current));
+		place(t);
+		pending++;
+		return t;
+	}
+
+
+
+	/**
+	 * This method cancels a timeout, if it has not expired yet, in constant time.
+	 *
+	 * 	@param	timeout		the timeout to be cancelled
+	 * 	@return			true if the timeout was pending and has been cancelled
+	 * 	@since	0.3.0
+	 */
+
+	public synchronized boolean cancel (Timeout timeout) {
+		if (timeout.wheel != this || timeout.done) {
+			return false;
+		}
+		timeout.node.unlink();
+		timeout.done = true;
+		pending--;
+		return true;
+	}
+
+
+
+	/**
+	 * This method processes every tick which has started by the given time, as returned by
+	 * {@link System#nanoTime()}, and runs the tasks of the timeouts which expire. The due 
+	 * timeouts are collected while holding the wheel's lock, and their tasks are run after it is 
+	 * released, in the order of their deadlines. Every due task is run, even if some of them throw.
+	 *
+	 * 	@param	nanoTime	the current time
+	 * 	@return			the number of tasks run
+	 * 	@throws	RuntimeException	the first exception thrown by a task, with those thrown by later tasks suppressed
+	 * 	@since	0.3.0
+	 */
+
+	public int advance (long nanoTime) {
+		Timeout t;
+		synchronized (this) {
+			t = collect((nanoTime - origin) / tickNanos);
+		}
+		int expired = 0;
+		RuntimeException failure = null;
+		while (t != null) {
+			Timeout next = t.nextDue;
+			t.nextDue = null;
+			expired++;
+			try {
+				t.task.run();
+			} catch (RuntimeException e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+			t = next;
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		return expired;
+	}
+
+	/** Processes every tick up to the target, and returns the timeouts which expire, chained through nextDue */
+	private Timeout collect (long target) {
+		Timeout first = null;
+		Timeout last = null;
+		while (current <= target) {
+			long tick = current;
+			for (int level = levels - 1; level >= 1; level--) {
+				if ((tick & ((1L << (slotBits * level)) - 1)) == 0) {
+					cascade(slot(level, tick));
+				}
+			}
+			if ((tick & ((1L << (slotBits * levels)) - 1)) == 0) {
+				cascade(overflow);
+			}
+			current = tick + 1;
+			IntrusiveList<Node> due = slot(0, tick);
+			Node n;
+			while ((n = due.poll()) != null) {
+				Timeout t = n.timeout;
+				t.done = true;
+				pending--;
+				if (last == null) {
+					first = t;
+				} else {
+					last.nextDue = t;
+				}
+				last = t;
+			}
+		}
+		return first;
+	}
+
+
+
+	/**
+	 * This method returns the number of timeouts which have neither expired nor been cancelled.
+	 *
+	 * 	@return			the number of pending timeouts
+	 * 	@since	0.3.0
+	 */
+
+	public synchronized long getPending () {
+		return pending;
+	}
+
+
+
+	/**
+	 * This method starts driving the wheel on a new thread created by the given factory. The 
+	 * thread advances the wheel once per tick, until {@link #stop()} is called.
+	 *
+	 * 	@param	factory		the factory used to create the driving thread
+	 * 	@return			the driving thread, already started
+	 * 	@throws	IllegalStateException	thrown if the wheel is already being driven
+	 * 	@since	0.3.0
+	 */
+
+	public synchronized Thread start (ThreadFactory factory) {
+		if (driver != null) {
+			throw new IllegalStateException("TimingWheel is already running !");
+		}
+		Thread thread = factory.newThread(this::drive);
+		driver = thread;
+		thread.start();
+		return thread;
+	}
+
+
+
+	/**
+	 * This method stops the thread started by {@link #start(ThreadFactory)}. Pending timeouts 
+	 * are kept, and the wheel can be started again or advanced by hand.
+	 *
+	 * 	@since	0.3.0
+	 */
+
+	public void stop () {
+		Thread thread = driver;
+		driver = null;
+		if (thread != null) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	private void drive () {
+		Thread self = Thread.currentThread();
+		while (driver == self) {
+			long now = System.nanoTime();
+			try {
+				advance(now);
+			} catch (RuntimeException e) {
+				// A failing task must not stop the other timeouts from expiring
+			}
+			long elapsed = (now - origin) % tickNanos;
+			LockSupport.parkNanos(this, tickNanos - elapsed);
+		}
+	}
+
+	private void cascade (IntrusiveList<Node> list) {
+		Node t;
+		int n = list.getSize();
+		while (n-- > 0 && (t = list.poll()) != null) {
+			place(t.timeout);
+		}
+	}
+
+	private void place (Timeout t) {
+		for (int level = 0; level < levels; level++) {
+			int above = slotBits * (level + 1);
+			if ((t.deadline >>> above) == (current >>> above)) {
+				slot(level, t.deadline).push(t.node);
+				return;
+			}
+		}
+		overflow.push(t.node);
+	}
+
+	private IntrusiveList<Node> slot (int level, long tick) {
+		return slots[(level << slotBits) + (int) ((tick >>> (slotBits * level)) & mask)];
+	}
+} 
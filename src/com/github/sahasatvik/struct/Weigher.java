@@ -0,0 +1,43 @@
+
+package com.github.sahasatvik.struct;
+
+/**
+ * This interface estimates the weight of an item, usually its approximate size in 
+ * bytes. As this is a functional interface, weighers can be written as lambda expressions.
+ * For example :
+ * <pre>{@code
+ *		.
+ *		.
+ *		.
+ *
+ *		Weigher<String> bytes = (s) -> (40 + 2L * s.length());
+ *		BoundedQueue<String> q = new BoundedQueue<>(1000, 1 << 20, bytes, OverflowPolicy.REJECT);
+ *
+ *		.
+ *		.
+ *		.
+ * }</pre>
+ * Each item is weighed once, when it is pushed, and that weight is used until it is removed,
+ * even if the weight of the item changes meanwhile.
+ *
+ * 	@author		Satvik Saha
+ * 	@version	0.3.0, 19/10/2026
+ * 	@param	<T>	the type of items to be weighed
+ * 	@see		com.github.sahasatvik.struct.BoundedQueue
+ * 	@see		com.github.sahasatvik.struct.BoundedStack
+ * 	@since		0.3.0
+ */
+
+@FunctionalInterface
+public interface Weigher<T> {
+	
+	/**
+	 * This method returns the weight of the item passed to it. The weight must not be negative.
+	 *
+	 * 	@param	item		the item to be weighed
+	 * 	@return			the weight of the item
+	 * 	@since	0.3.0
+	 */
+
+	public long weigh (T item);
+} 
@@ -0,0 +1,145 @@
+
+package examples;
+
+import com.github.sahasatvik.cli.*;
+import com.github.sahasatvik.struct.*;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * AllocationCheck measures the number of bytes allocated per call on the hot paths of the 
+ * library, using {@code com.sun.management.ThreadMXBean.getThreadAllocatedBytes}, and compares 
+ * them against fixed budgets. It exits with a non-zero status if any budget is exceeded, so
+ * that it can be run after each build (see the {@code checkAllocations} script) to catch
+ * allocation regressions.
+ * <p>
+ * Each operation is warmed up first, so that the measurements reflect steady-state compiled
+ * code. The small cost of the measurement itself is subtracted from every result.
+ */
+
+public class AllocationCheck {
+
+	private static final int WARMUP = 200_000;
+	private static final int ITERATIONS = 1_000_000;
+
+	private static final com.sun.management.ThreadMXBean BEAN = 
+		(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	private static int failures = 0;
+	private static double overhead = 0;
+
+	/** A single operation whose allocations are to be measured */
+	@FunctionalInterface
+	interface Operation {
+		void run () throws Exception;
+	}
+
+	/** A node for measuring IntrusiveList */
+	static class Node extends IntrusiveNode<Node> {
+	}
+
+	private static double bytesPerOp (Operation op) throws Exception {
+		for (int i = 0; i < WARMUP; i++) {
+			op.run();
+		}
+		long id = Thread.currentThread().getId();
+		long before = BEAN.getThreadAllocatedBytes(id);
+		for (int i = 0; i < ITERATIONS; i++) {
+			op.run();
+		}
+		long after = BEAN.getThreadAllocatedBytes(id);
+		return Math.max(0, (double) (after - before) / ITERATIONS - overhead);
+	}
+
+	private static void check (String name, double budget, Operation op) throws Exception {
+		double bytes = bytesPerOp(op);
+		boolean ok = bytes <= budget;
+		if (!ok) {
+			failures++;
+		}
+		System.out.printf("%-4s %-48s %8.2f B/op  (budget %6.1f)%n", (ok)? "ok" : "FAIL", name, bytes, budget);
+	}
+
+	public static void main (String[] args) throws Exception {
+		if (!BEAN.isThreadAllocatedMemorySupported()) {
+			System.out.println("Thread allocation measurement is not supported by this JVM !");
+			return;
+		}
+		BEAN.setThreadAllocatedMemoryEnabled(true);
+		overhead = bytesPerOp(() -> {});
+
+		// struct
+		Queue<Integer> queue = new Queue<>();
+		Integer item = 1;
+		check("Queue.push + Queue.poll", 48, () -> {
+			queue.push(item);
+			queue.poll();
+		});
+		check("Queue.poll (empty)", 0, () -> queue.poll());
+		check("Queue.peek", 0, () -> queue.peek());
+
+		Stack<Integer> stack = new Stack<>();
+		check("Stack.push + Stack.poll", 48, () -> {
+			stack.push(item);
+			stack.poll();
+		});
+
+		IndexedLinkedList<Integer> indexed = new IndexedLinkedList<>();
+		for (int i = 0; i < 64; i++) {
+			indexed.pushItemAt(i, i);
+		}
+		Integer first = 0;
+		Integer last = 63;
+		check("IndexedLinkedList.moveToFront/moveToBack", 0, () -> {
+			indexed.moveToBack(first);
+			indexed.moveToFront(first);
+			indexed.contains(last);
+		});
+
+		FrozenList<Integer> frozen = indexed.freeze();
+		check("FrozenList.getItemAt", 0, () -> frozen.getItemAt(32));
+
+		IntrusiveList<Node> intrusive = new IntrusiveList<>();
+		Node node = new Node();
+		check("IntrusiveList.push + IntrusiveNode.unlink", 0, () -> {
+			intrusive.push(node);
+			node.unlink();
+		});
+
+		RingWindow window = new RingWindow(1024);
+		Histogram histogram = new Histogram();
+		check("RingWindow.push + Histogram.record", 0, () -> {
+			window.push(12345);
+			histogram.record(12345);
+		});
+
+		BoundedQueue<Integer> bounded = new BoundedQueue<>(16, OverflowPolicy.DROP_OLDEST);
+		check("BoundedQueue.offer + BoundedQueue.poll", 48, () -> {
+			bounded.offer(item);
+			bounded.poll();
+		});
+
+		// cli
+		Option<?> help = new Option<>("-h", "--help");
+		Option<?> verbose = new Option<>("-v", "--verbose");
+		Option<?> quiet = new Option<>("-q", "--quiet");
+		ArgHandler handler = new ArgHandler(new String[] {"arg"}).useOptions(help, verbose, quiet);
+		check("ArgHandler.getOption(String)", 0, () -> handler.getOption("--quiet"));
+		check("ArgHandler.getOption(String) with value", 0, () -> handler.getOption("--quiet=1"));
+		check("ArgHandler.getOption(char)", 0, () -> handler.getOption('q'));
+
+		// Only the ParseResult and its token table are allocated : the values of the numeric Options
+		// are parsed into primitives, so no boxes or substrings are created
+		IntOption jobs = new IntOption("-j", "--jobs").setRange(1, 1 << 20);
+		LongOption seed = new LongOption("-s", "--seed");
+		DoubleOption ratio = new DoubleOption("-r", "--ratio");
+		CommandSpec numeric = new CommandSpec(jobs, seed, ratio);
+		String[] numericArgs = {"--jobs=100000", "--seed=12345678901234", "-r=0.125"};
+		check("CommandSpec.parse with primitive Options", 384, () -> numeric.parse(numericArgs));
+
+		if (failures > 0) {
+			System.out.println(failures + " allocation budget(s) exceeded !");
+			System.exit(1);
+		}
+	}
+}
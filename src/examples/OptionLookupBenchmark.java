@@ -0,0 +1,73 @@
+
+package examples;
+
+import com.github.sahasatvik.cli.*;
+import com.github.sahasatvik.struct.*;
+
+/**
+ * OptionLookupBenchmark compares the time taken to find the Option named by an argument, using 
+ * the linear scan ArgHandler.getOption used to perform over a Queue of Options, against the 
+ * index of a CommandSpec, for exact long forms and for abbreviations. The number of Options can 
+ * be passed as the first argument (200 by default).
+ */
+
+public class OptionLookupBenchmark {
+
+	private static final int ROUNDS = 5;
+	private static final int LOOKUPS = 2_000_000;
+
+	private static int sink;
+
+	/** The lookup used by ArgHandler before Options were indexed */
+	private static Option<?> linear (Queue<Option<?>> options, String s) {
+		int optionCount = options.getSize();
+		for (int i = 0; i < optionCount; i++) {
+			try {
+				Option<?> f = options.getItemAt(i);
+				if (f.matches(s)) {
+					return f;
+				}
+			} catch (ListIndexOutOfBoundsException e) {
+			}
+		}
+		return null;
+	}
+
+	public static void main (String[] args) throws Exception {
+		int n = (args.length > 0)? Integer.parseInt(args[0]) : 200;
+		Option<?>[] options = new Option<?>[n];
+		Queue<Option<?>> queue = new Queue<>();
+		String[] exact = new String[n];
+		String[] abbreviated = new String[n];
+		for (int i = 0; i < n; i++) {
+			String name = "--option-number-" + i + "-of-" + n;
+			options[i] = new Option<Object>("-" + (char) (0x100 + i), name);
+			queue.push(options[i]);
+			exact[i] = name;
+			abbreviated[i] = name.substring(0, name.length() - 2);
+		}
+		CommandSpec spec = new CommandSpec(true, options);
+
+		for (int round = 1; round <= ROUNDS; round++) {
+			long t0 = System.nanoTime();
+			for (int i = 0; i < LOOKUPS / n; i++) {
+				for (String s : exact) {
+					sink += (linear(queue, s) != null)? 1 : 0;
+				}
+			}
+			long t1 = System.nanoTime();
+			for (int i = 0; i < LOOKUPS; i++) {
+				sink += (spec.getOption(exact[i % n]) != null)? 1 : 0;
+			}
+			long t2 = System.nanoTime();
+			for (int i = 0; i < LOOKUPS; i++) {
+				sink += (spec.getOption(abbreviated[i % n]) != null)? 1 : 0;
+			}
+			long t3 = System.nanoTime();
+			double linearNs = (double) (t1 - t0) / ((LOOKUPS / n) * n);
+			System.out.printf("round %d : %d options, linear scan %.1f ns, index %.1f ns, abbreviation %.1f ns per lookup%n",
+						round, n, linearNs, (double) (t2 - t1) / LOOKUPS, (double) (t3 - t2) / LOOKUPS);
+		}
+		System.out.println(sink);
+	}
+}